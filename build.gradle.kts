@@ -27,15 +27,22 @@ dependencies {
 
         create("IC", "2025.1.4.1")
         testFramework(org.jetbrains.intellij.platform.gradle.TestFrameworkType.Platform)
+        testFramework(org.jetbrains.intellij.platform.gradle.TestFrameworkType.Plugin.Java)
 
         bundledPlugin("com.intellij.java")
-        testFramework(org.jetbrains.intellij.platform.gradle.TestFrameworkType.Platform)
 
         bundledPlugin("org.jetbrains.plugins.yaml")
 
+        bundledPlugin("com.intellij.properties")
+
+        // optional: Kotlin sources are analyzed through UAST, no compile-time Kotlin PSI is used
+        bundledPlugin("org.jetbrains.kotlin")
+
 
     }
 
+    testImplementation("junit:junit:4.13.2")
+    testImplementation("org.opentest4j:opentest4j:1.3.0")
 }
 
 intellijPlatform {
@@ -51,6 +58,27 @@ intellijPlatform {
     }
 }
 
+// CI check for missing config keys, runs the plugin's headless starter:
+// ./gradlew checkConfigKeys -PyamlBuddyProject=<dir> [-PyamlBuddyFormat=sarif|json] [-PyamlBuddyOutput=<file>]
+val checkConfigKeys by intellijPlatformTesting.runIde.registering {
+    task {
+        group = "verification"
+        description = "Fails when a config key used in Java or Kotlin code is missing from the Spring config files."
+
+        val projectDir = providers.gradleProperty("yamlBuddyProject").orElse(rootDir.absolutePath)
+        val format = providers.gradleProperty("yamlBuddyFormat").orElse("sarif")
+        val output = providers.gradleProperty("yamlBuddyOutput")
+            .orElse(layout.buildDirectory.file("reports/yamlBuddy/missing-keys.sarif").map { it.asFile.absolutePath })
+
+        argumentProviders += CommandLineArgumentProvider {
+            listOf("yamlBuddyCheck", projectDir.get(), "--format=${format.get()}", "--output=${output.get()}")
+        }
+        jvmArgumentProviders += CommandLineArgumentProvider {
+            listOf("-Djava.awt.headless=true", "-Didea.trust.all.projects=true")
+        }
+    }
+}
+
 tasks {
     withType<JavaCompile> {
         sourceCompatibility = "21"
@@ -1,67 +1,74 @@
 package dev.marko.yamlbuddy.annotator;
 
 import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.lang.annotation.AnnotationBuilder;
 import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.lang.annotation.Annotator;
 import com.intellij.lang.annotation.HighlightSeverity;
-import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.*;
-import com.intellij.psi.util.PsiTreeUtil;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel.BoundProperty;
+import dev.marko.yamlbuddy.inspection.CreateAllYamlKeysQuickFix;
 import dev.marko.yamlbuddy.inspection.CreateYamlKeyQuickFix;
+import dev.marko.yamlbuddy.util.ConfigurationPropertiesCollector;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.yaml.psi.YAMLFile;
-import org.jetbrains.yaml.psi.YAMLKeyValue;
-import org.jetbrains.yaml.psi.YAMLMapping;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 
+/**
+ * Editor-side missing key check: annotates only the keys no config file defines, with the create-key fixes.
+ * {@link dev.marko.yamlbuddy.inspection.MissingYamlKeyInspection} reports the same results in batch runs only,
+ * so nothing is reported twice.
+ */
 public class YamlBuddyAnnotator implements Annotator {
 
-    // Matches:  ${server.port}
-    private static final Pattern EL_PATTERN = Pattern.compile("\\$\\{([^}]+)}");
-
-    private static final String SPRING_VALUE_ANNOTATION =
-            "org.springframework.beans.factory.annotation.Value";
-
     @Override
     public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
+        if (element instanceof PsiLanguageInjectionHost literal) {
+            annotateLiteral(literal, holder);
+        } else if (element instanceof PsiNameIdentifierOwner owner) {
+            annotateProperty(owner, holder);
+        }
+    }
 
-        // Apply only to string literals
-        if (!(element instanceof PsiLiteralExpression literal)) return;
-
-        Object raw = literal.getValue();
-        if (!(raw instanceof String text)) return;
-
-        // Check if literal is inside @Value(...)
-        PsiAnnotation annotation = PsiTreeUtil.getParentOfType(literal, PsiAnnotation.class);
-        if (annotation == null) return;
-
-        // Works even when annotation is imported (short name only)
-        String qName = annotation.getQualifiedName();
-        if (!SPRING_VALUE_ANNOTATION.equals(qName)) return;
-
-        Matcher matcher = EL_PATTERN.matcher(text);
-
-        while (matcher.find()) {
-            String key = matcher.group(1).trim();
-            if (key.isEmpty()) continue;
-
-            int startOffsetInLiteral = matcher.start();
-            int endOffsetInLiteral = matcher.end();
-            int literalStart = literal.getTextRange().getStartOffset();
+    private static void annotateLiteral(PsiLanguageInjectionHost literal, AnnotationHolder holder) {
+        // Placeholders of the whole file are collected and resolved once, then cached
+        PsiFile file = literal.getContainingFile();
+        List<PlaceholderSite> missing = PlaceholderCollector.getMissingSites(file).get(literal);
+        if (missing == null) return;
+
+        List<String> missingKeys = PlaceholderCollector.getMissingKeys(file);
+
+        for (PlaceholderSite site : missing) {
+            String key = site.key();
+
+            AnnotationBuilder builder = holder
+                    .newAnnotation(HighlightSeverity.WARNING, "YAML key '" + key + "' not found")
+                    .range(site.rangeInFile())
+                    .tooltip("Key '" + key + "' is not defined in any Spring config file.")
+                    .withFix((IntentionAction) new CreateYamlKeyQuickFix(key));
+            if (missingKeys.size() > 1) {
+                builder = builder.withFix((IntentionAction) new CreateAllYamlKeysQuickFix(missingKeys));
+            }
+            builder.create();
+        }
+    }
 
-            TextRange highlightRange = new TextRange(
-                    literalStart + 1 + startOffsetInLiteral,
-                    literalStart + 1 + endOffsetInLiteral
-            );
+    /**
+     * Required @ConfigurationProperties fields and record components, on their name.
+     */
+    private static void annotateProperty(PsiNameIdentifierOwner owner, AnnotationHolder holder) {
+        if (!(owner instanceof PsiField) && !(owner instanceof PsiRecordComponent)) return;
+        PsiElement nameIdentifier = owner.getNameIdentifier();
+        if (nameIdentifier == null) return;
 
+        for (BoundProperty property : ConfigurationPropertiesCollector.getMissingProperties(owner.getContainingFile())) {
+            if (property.element() != owner) continue;
 
-            // "withFix" FOR SHARED LOGIC
-            holder.newAnnotation(HighlightSeverity.WARNING, "YAML key '" + key + "' might be missing")
-                    .range(highlightRange)
-                    .tooltip("Key '" + key + "' not found in application.yaml.")
-                    .withFix((IntentionAction) new CreateYamlKeyQuickFix(key))
+            holder.newAnnotation(HighlightSeverity.WARNING, "YAML key '" + property.key() + "' not found")
+                    .range(nameIdentifier)
+                    .withFix((IntentionAction) new CreateYamlKeyQuickFix(property.key()))
                     .create();
         }
     }
@@ -0,0 +1,120 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import dev.marko.yamlbuddy.index.ConfigKeyEntry;
+import dev.marko.yamlbuddy.util.ConfigKeyLocation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * All Spring config sources merged into one lookup table: key -> every defining location,
+ * ordered by precedence (the first location is the effective one).
+ * Keys are stored in relaxed canonical form ({@link RelaxedNames#canonicalize}), so "my.someValue"
+ * finds "my.some-value" with one hash probe.
+ */
+public final class ConfigKeyModel {
+
+    public static final ConfigKeyModel EMPTY = new ConfigKeyModel(Collections.emptyMap());
+
+    private final Map<String, List<ConfigKeyLocation>> locations;
+
+    // Built on first completion request; racing threads compute the same arrays
+    private volatile SortedKeys sortedKeys;
+
+    /**
+     * Canonical keys in lexicographic order and, at the same index, each key as spelled in its effective file.
+     */
+    private record SortedKeys(String[] canonical, String[] spelled) {
+    }
+
+    private ConfigKeyModel(Map<String, List<ConfigKeyLocation>> locations) {
+        this.locations = locations;
+    }
+
+    public boolean contains(@NotNull String key) {
+        return locations.containsKey(RelaxedNames.canonicalize(key));
+    }
+
+    public @NotNull List<ConfigKeyLocation> getLocations(@NotNull String key) {
+        List<ConfigKeyLocation> result = locations.get(RelaxedNames.canonicalize(key));
+        return result != null ? result : Collections.emptyList();
+    }
+
+    public @Nullable ConfigKeyLocation getEffectiveLocation(@NotNull String key) {
+        List<ConfigKeyLocation> result = locations.get(RelaxedNames.canonicalize(key));
+        return result != null ? result.get(0) : null;
+    }
+
+    /**
+     * Every key in canonical form.
+     */
+    public @NotNull Set<String> getCanonicalKeys() {
+        return Collections.unmodifiableSet(locations.keySet());
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * Keys as spelled in the config files that relaxed-match prefix ("my.someV" finds "my.some-value"),
+     * ordered by canonical form; a binary search over the sorted canonical keys.
+     */
+    public @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+        String canonicalPrefix = RelaxedNames.canonicalizePrefix(prefix);
+        SortedKeys keys = getSortedKeys();
+        int index = Arrays.binarySearch(keys.canonical(), canonicalPrefix);
+        if (index < 0) index = -index - 1;
+
+        List<String> result = new ArrayList<>();
+        while (index < keys.canonical().length && keys.canonical()[index].startsWith(canonicalPrefix)) {
+            result.add(keys.spelled()[index++]);
+        }
+        return result;
+    }
+
+    private SortedKeys getSortedKeys() {
+        SortedKeys keys = sortedKeys;
+        if (keys == null) {
+            String[] canonical = locations.keySet().toArray(String[]::new);
+            Arrays.sort(canonical);
+            String[] spelled = new String[canonical.length];
+            for (int i = 0; i < canonical.length; i++) {
+                spelled[i] = locations.get(canonical[i]).get(0).key();
+            }
+            keys = new SortedKeys(canonical, spelled);
+            sortedKeys = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * Files must be added in precedence order, highest first.
+     */
+    public static final class Builder {
+
+        private final Map<String, List<ConfigKeyLocation>> locations = new HashMap<>();
+
+        /**
+         * keys must already be canonical, as stored by the key index.
+         */
+        public void addFile(@NotNull VirtualFile file, @NotNull Map<String, ConfigKeyEntry> keys) {
+            String profile = SpringConfigFiles.getProfile(file.getName());
+            keys.forEach((canonicalKey, entry) -> locations
+                    .computeIfAbsent(canonicalKey, k -> new ArrayList<>(1))
+                    .add(new ConfigKeyLocation(entry.key(), file, entry.offset(), profile, entry.value())));
+        }
+
+        public @NotNull ConfigKeyModel build() {
+            return locations.isEmpty() ? EMPTY : new ConfigKeyModel(locations);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.psi.util.PsiUtil;
+import dev.marko.yamlbuddy.util.SpringAnnotations;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Key paths bound by a @ConfigurationProperties class: fields and record components, including nested types,
+ * mapped to their kebab-case keys under the class prefix. Computed once per class and cached until Java PSI changes.
+ */
+public final class ConfigurationPropertiesModel {
+
+    private static final int MAX_NESTING = 8;
+
+    private static final String DEFAULT_VALUE_ANNOTATION =
+            "org.springframework.boot.context.properties.bind.DefaultValue";
+
+    private static final List<String> CONSTRUCTOR_BINDING_ANNOTATIONS = List.of(
+            "org.springframework.boot.context.properties.bind.ConstructorBinding",
+            "org.springframework.boot.context.properties.ConstructorBinding"
+    );
+
+    private static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+
+    private static final String VALIDATED = "org.springframework.validation.annotation.Validated";
+
+    private static final List<String> VALID_ANNOTATIONS = List.of("jakarta.validation.Valid", "javax.validation.Valid");
+
+    private static final List<String> NOT_NULL_ANNOTATIONS = List.of(
+            "jakarta.validation.constraints.NotNull",
+            "jakarta.validation.constraints.NotBlank",
+            "jakarta.validation.constraints.NotEmpty",
+            "javax.validation.constraints.NotNull",
+            "javax.validation.constraints.NotBlank",
+            "javax.validation.constraints.NotEmpty"
+    );
+
+    public static final ConfigurationPropertiesModel EMPTY =
+            new ConfigurationPropertiesModel("", Collections.emptyList());
+
+    /**
+     * One bound key. nested is true for properties whose type is itself bound field by field;
+     * required is true when binding fails without the key. Spring binds a missing key to null (or a
+     * primitive's default) on both paths, so only a validation constraint makes it fail: @NotNull,
+     * @NotBlank or @NotEmpty on a @Validated class, on a property Spring can bind (constructor parameter
+     * or setter) that has no default (@DefaultValue or field initializer).
+     */
+    public record BoundProperty(@NotNull String key,
+                                @NotNull PsiModifierListOwner element,
+                                boolean nested,
+                                boolean required) {
+    }
+
+    private final String prefix;
+    private final List<BoundProperty> properties;
+    private final Map<PsiElement, BoundProperty> byElement = new HashMap<>();
+
+    private ConfigurationPropertiesModel(String prefix, List<BoundProperty> properties) {
+        this.prefix = prefix;
+        this.properties = properties;
+        for (BoundProperty property : properties) byElement.putIfAbsent(property.element(), property);
+    }
+
+    public @NotNull String getPrefix() {
+        return prefix;
+    }
+
+    public @NotNull List<BoundProperty> getProperties() {
+        return properties;
+    }
+
+    /**
+     * The property bound by a field or record component of the class (first occurrence for shared nested types).
+     */
+    public @Nullable BoundProperty findProperty(@NotNull PsiElement element) {
+        return byElement.get(element);
+    }
+
+    /**
+     * Model of a @ConfigurationProperties class; {@link #EMPTY} for any other class.
+     */
+    public static @NotNull ConfigurationPropertiesModel getInstance(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue(psiClass, () -> CachedValueProvider.Result.create(
+                compute(psiClass),
+                PsiModificationTracker.getInstance(psiClass.getProject()).forLanguage(JavaLanguage.INSTANCE)
+        ));
+    }
+
+    public static @Nullable PsiAnnotation findAnnotation(@NotNull PsiModifierListOwner owner) {
+        PsiModifierList modifiers = owner.getModifierList();
+        if (modifiers == null) return null;
+
+        for (PsiAnnotation annotation : modifiers.getAnnotations()) {
+            if (SpringAnnotations.hasShortName(annotation, SpringAnnotations.CONFIGURATION_PROPERTIES)
+                    && SpringAnnotations.CONFIGURATION_PROPERTIES.equals(annotation.getQualifiedName())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static ConfigurationPropertiesModel compute(PsiClass psiClass) {
+        PsiAnnotation annotation = findAnnotation(psiClass);
+        if (annotation == null) return EMPTY;
+
+        String prefix = AnnotationUtil.getStringAttributeValue(annotation, "prefix");
+        if (prefix == null || prefix.isBlank()) prefix = AnnotationUtil.getStringAttributeValue(annotation, "value");
+        prefix = prefix != null ? prefix.trim() : "";
+
+        List<BoundProperty> properties = new ArrayList<>();
+        Set<String> visiting = new HashSet<>();
+        visiting.add(psiClass.getQualifiedName());
+        collect(psiClass, prefix, psiClass.hasAnnotation(VALIDATED), 0, visiting, properties);
+        return new ConfigurationPropertiesModel(prefix, Collections.unmodifiableList(properties));
+    }
+
+    /**
+     * validated: JSR-303 constraints of psiClass are checked, i.e. the root class is @Validated
+     * and every nested property on the way is @Valid.
+     */
+    private static void collect(PsiClass psiClass,
+                                String prefix,
+                                boolean validated,
+                                int depth,
+                                Set<String> visiting,
+                                List<BoundProperty> properties) {
+        if (psiClass.isRecord()) {
+            for (PsiRecordComponent component : psiClass.getRecordComponents()) {
+                boolean required = isRequired(validated, component.getType(),
+                        component.hasAnnotation(DEFAULT_VALUE_ANNOTATION), component);
+                addProperty(component, component.getName(), component.getType(), required,
+                        prefix, validated, depth, visiting, properties);
+            }
+            return;
+        }
+
+        PsiMethod constructor = findBindingConstructor(psiClass);
+
+        // getAllFields covers properties inherited from superclasses
+        for (PsiField field : psiClass.getAllFields()) {
+            if (field.hasModifierProperty(PsiModifier.STATIC) || field.hasModifierProperty(PsiModifier.TRANSIENT)) {
+                continue;
+            }
+
+            boolean required;
+            if (constructor != null) {
+                PsiParameter parameter = findParameter(constructor, field.getName());
+                required = parameter != null && isRequired(validated, field.getType(),
+                        parameter.hasAnnotation(DEFAULT_VALUE_ANNOTATION), field, parameter);
+            } else {
+                required = PropertyUtilBase.findPropertySetter(psiClass, field.getName(), false, true) != null
+                        && isRequired(validated, field.getType(), field.hasInitializer(), field);
+            }
+            addProperty(field, field.getName(), field.getType(), required,
+                    prefix, validated, depth, visiting, properties);
+        }
+    }
+
+    private static void addProperty(PsiModifierListOwner element,
+                                    String name,
+                                    PsiType type,
+                                    boolean required,
+                                    String prefix,
+                                    boolean validated,
+                                    int depth,
+                                    Set<String> visiting,
+                                    List<BoundProperty> properties) {
+        String key = (prefix.isEmpty() ? "" : prefix + ".") + RelaxedNames.toKebabCase(name);
+        PsiClass nestedClass = depth < MAX_NESTING ? getNestedBeanClass(type) : null;
+
+        if (nestedClass != null && visiting.add(nestedClass.getQualifiedName())) {
+            properties.add(new BoundProperty(key, element, true, false));
+            boolean nestedValidated = validated && AnnotationUtil.isAnnotated(element, VALID_ANNOTATIONS, 0);
+            collect(nestedClass, key, nestedValidated, depth + 1, visiting, properties);
+            visiting.remove(nestedClass.getQualifiedName());
+        } else {
+            properties.add(new BoundProperty(key, element, false, required));
+        }
+    }
+
+    /**
+     * The one rule for constructor and setter binding; the constraint may sit on any of annotated
+     * (field, constructor parameter or record component).
+     */
+    private static boolean isRequired(boolean validated, PsiType type, boolean hasDefault, PsiModifierListOwner... annotated) {
+        if (!validated || hasDefault || type instanceof PsiPrimitiveType) return false;
+        for (PsiModifierListOwner owner : annotated) {
+            if (AnnotationUtil.isAnnotated(owner, NOT_NULL_ANNOTATIONS, 0)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The constructor Spring binds through: one annotated with @ConstructorBinding, otherwise the only
+     * constructor when it has parameters and is not @Autowired. Null means JavaBean (setter) binding.
+     */
+    private static @Nullable PsiMethod findBindingConstructor(PsiClass psiClass) {
+        PsiMethod[] constructors = psiClass.getConstructors();
+        for (PsiMethod constructor : constructors) {
+            if (AnnotationUtil.isAnnotated(constructor, CONSTRUCTOR_BINDING_ANNOTATIONS, 0)) return constructor;
+        }
+        if (constructors.length == 1
+                && !constructors[0].getParameterList().isEmpty()
+                && !constructors[0].hasAnnotation(AUTOWIRED)) {
+            return constructors[0];
+        }
+        return null;
+    }
+
+    private static @Nullable PsiParameter findParameter(PsiMethod constructor, String name) {
+        for (PsiParameter parameter : constructor.getParameterList().getParameters()) {
+            if (name.equals(parameter.getName())) return parameter;
+        }
+        return null;
+    }
+
+    /**
+     * The class of a type that Spring binds property by property, or null for scalars, enums,
+     * JDK types, arrays, collections and maps.
+     */
+    private static @Nullable PsiClass getNestedBeanClass(PsiType type) {
+        if (!(type instanceof PsiClassType classType)) return null;
+
+        PsiClass psiClass = PsiUtil.resolveClassInClassTypeOnly(classType);
+        if (psiClass == null || psiClass.isEnum() || psiClass.isInterface()) return null;
+
+        String qName = psiClass.getQualifiedName();
+        if (qName == null || qName.startsWith("java.") || qName.startsWith("javax.")) return null;
+        if (InheritanceUtil.isInheritor(psiClass, CommonClassNames.JAVA_UTIL_COLLECTION)
+                || InheritanceUtil.isInheritor(psiClass, CommonClassNames.JAVA_UTIL_MAP)) {
+            return null;
+        }
+        return psiClass;
+    }
+}
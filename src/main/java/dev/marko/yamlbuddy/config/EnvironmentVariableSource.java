@@ -0,0 +1,207 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.execution.CommonProgramRunConfigurationParameters;
+import com.intellij.execution.RunManager;
+import com.intellij.execution.RunManagerListener;
+import com.intellij.execution.RunnerAndConfigurationSettings;
+import com.intellij.execution.configurations.RunConfiguration;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.messages.MessageBusConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Optional source of environment variables: names from the project's .env files and from the
+ * environments of its run configurations. Off by default.
+ * The names are read once into a snapshot that is only rebuilt when a .env file or a run
+ * configuration changes, so a lookup during highlighting is a set probe.
+ */
+@Service(Service.Level.PROJECT)
+@State(name = "YamlBuddyEnvironment", storages = @Storage("yamlBuddy.xml"))
+public final class EnvironmentVariableSource implements PersistentStateComponent<EnvironmentVariableSource.Settings>, Disposable {
+
+    private static final Logger LOG = Logger.getInstance(EnvironmentVariableSource.class);
+
+    public static final String DOT_ENV = ".env";
+
+    public static class Settings {
+        public boolean enabled;
+    }
+
+    private final Project project;
+    private final SimpleModificationTracker modificationTracker = new SimpleModificationTracker();
+    private final CachedValue<Set<String>> snapshot;
+    private Settings settings = new Settings();
+
+    public EnvironmentVariableSource(@NotNull Project project) {
+        this.project = project;
+        this.snapshot = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(collectNames(), modificationTracker),
+                false
+        );
+
+        MessageBusConnection connection = project.getMessageBus().connect(this);
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+                if (!settings.enabled) return;
+                for (VFileEvent event : events) {
+                    if (event.getPath().endsWith("/" + DOT_ENV)) {
+                        modificationTracker.incModificationCount();
+                        return;
+                    }
+                }
+            }
+        });
+        connection.subscribe(RunManagerListener.TOPIC, new RunManagerListener() {
+            @Override
+            public void runConfigurationAdded(@NotNull RunnerAndConfigurationSettings configuration) {
+                runConfigurationsChanged();
+            }
+
+            @Override
+            public void runConfigurationRemoved(@NotNull RunnerAndConfigurationSettings configuration) {
+                runConfigurationsChanged();
+            }
+
+            @Override
+            public void runConfigurationChanged(@NotNull RunnerAndConfigurationSettings configuration) {
+                runConfigurationsChanged();
+            }
+        });
+    }
+
+    public static EnvironmentVariableSource getInstance(@NotNull Project project) {
+        return project.getService(EnvironmentVariableSource.class);
+    }
+
+    /**
+     * Changes with the variable snapshot and with the enabled flag.
+     */
+    public @NotNull ModificationTracker getModificationTracker() {
+        return modificationTracker;
+    }
+
+    public boolean isEnabled() {
+        return settings.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (settings.enabled == enabled) return;
+        settings.enabled = enabled;
+        modificationTracker.incModificationCount();
+    }
+
+    /**
+     * True if the source is enabled and a variable binds to key, either by its literal name ("DB_URL")
+     * or through Spring's environment mapping ("spring.data-source.url" -> "SPRING_DATASOURCE_URL").
+     */
+    public boolean isDefined(@NotNull String key) {
+        if (!settings.enabled) return false;
+
+        Set<String> names = snapshot.getValue();
+        return !names.isEmpty() && (names.contains(key) || names.contains(toEnvironmentName(key)));
+    }
+
+    /**
+     * Spring's canonical environment variable form of a property key.
+     */
+    public static @NotNull String toEnvironmentName(@NotNull String key) {
+        StringBuilder result = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '.' || c == '[' || c == ']') {
+                if (!result.isEmpty() && result.charAt(result.length() - 1) != '_') result.append('_');
+            } else if (c != '-') {
+                result.append(c);
+            }
+        }
+        int end = result.length();
+        if (end > 0 && result.charAt(end - 1) == '_') result.setLength(end - 1);
+        return result.toString().toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public @NotNull Settings getState() {
+        return settings;
+    }
+
+    @Override
+    public void loadState(@NotNull Settings state) {
+        settings = state;
+        modificationTracker.incModificationCount();
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private void runConfigurationsChanged() {
+        if (settings.enabled) modificationTracker.incModificationCount();
+    }
+
+    private Set<String> collectNames() {
+        if (!settings.enabled) return Collections.emptySet();
+
+        Set<String> names = new HashSet<>();
+        for (RunConfiguration configuration : RunManager.getInstance(project).getAllConfigurationsList()) {
+            if (configuration instanceof CommonProgramRunConfigurationParameters parameters) {
+                names.addAll(parameters.getEnvs().keySet());
+            }
+        }
+        for (VirtualFile file : FilenameIndex.getVirtualFilesByName(DOT_ENV, GlobalSearchScope.projectScope(project))) {
+            try {
+                collectDotEnvNames(VfsUtilCore.loadText(file), names);
+            } catch (IOException e) {
+                LOG.warn("Cannot read " + file.getPath(), e);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Names of "NAME=value" and "export NAME=value" lines; comments and blank lines are skipped.
+     */
+    private static void collectDotEnvNames(CharSequence text, Set<String> names) {
+        int length = text.length();
+        int lineStart = 0;
+
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && text.charAt(lineEnd) != '\n') lineEnd++;
+
+            String line = text.subSequence(lineStart, lineEnd).toString().trim();
+            if (line.startsWith("export ")) line = line.substring("export ".length()).trim();
+
+            int separator = line.indexOf('=');
+            if (separator > 0 && !line.startsWith("#")) {
+                names.add(line.substring(0, separator).trim());
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+}
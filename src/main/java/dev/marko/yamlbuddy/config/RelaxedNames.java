@@ -0,0 +1,76 @@
+package dev.marko.yamlbuddy.config;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Spring relaxed-binding name helpers.
+ */
+public final class RelaxedNames {
+
+    private RelaxedNames() {
+    }
+
+    /**
+     * Canonical form used for every key comparison, so lookups stay a single hash probe:
+     * elements are lower-cased with '-' and '_' removed ("my.someValue", "my.some-value" and
+     * "my.some_value" all become "my.somevalue"); "[...]" elements are kept verbatim and
+     * attached without a dot ("list[0].name", "map.[a.b]" -> "map[a.b]").
+     */
+    public static @NotNull String canonicalize(@NotNull String key) {
+        StringBuilder result = new StringBuilder(key.length());
+        int length = key.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = key.charAt(i);
+            if (c == '[') {
+                int close = key.indexOf(']', i);
+                if (close < 0) close = length - 1;
+                // drop a dot written before the bracket, brackets attach directly
+                if (!result.isEmpty() && result.charAt(result.length() - 1) == '.') {
+                    result.setLength(result.length() - 1);
+                }
+                result.append(key, i, close + 1);
+                i = close + 1;
+            } else if (c == '.') {
+                if (!result.isEmpty() && result.charAt(result.length() - 1) != '.') result.append('.');
+                i++;
+            } else {
+                if (c != '-' && c != '_') result.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+
+        int end = result.length();
+        if (end > 0 && result.charAt(end - 1) == '.') result.setLength(end - 1);
+        return result.toString();
+    }
+
+    /**
+     * Canonical form of a key typed so far: like {@link #canonicalize}, but a trailing dot is kept,
+     * so "app." only matches keys below "app" and not "apple".
+     */
+    public static @NotNull String canonicalizePrefix(@NotNull String prefix) {
+        String result = canonicalize(prefix);
+        return !result.isEmpty() && prefix.endsWith(".") ? result + "." : result;
+    }
+
+    /**
+     * Java property name to Spring's recommended key form: "someValue" -> "some-value".
+     */
+    public static @NotNull String toKebabCase(@NotNull String name) {
+        StringBuilder result = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0 && name.charAt(i - 1) != '-') result.append('-');
+                result.append(Character.toLowerCase(c));
+            } else if (c == '_') {
+                result.append('-');
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
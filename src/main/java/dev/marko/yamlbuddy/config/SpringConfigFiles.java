@@ -0,0 +1,101 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import dev.marko.yamlbuddy.diagnostics.YamlBuddyMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Recognizes Spring Boot config files (application[-profile] and bootstrap[-profile],
+ * as .properties/.yml/.yaml) and orders them by Spring's precedence.
+ */
+public final class SpringConfigFiles {
+
+    private static final String APPLICATION = "application";
+    private static final String BOOTSTRAP = "bootstrap";
+
+    private SpringConfigFiles() {
+    }
+
+    public static boolean isConfigFileName(@NotNull String fileName) {
+        return baseName(fileName) != null;
+    }
+
+    /**
+     * "application-prod.yml" -> "prod"; null for files without a profile suffix.
+     */
+    public static @Nullable String getProfile(@NotNull String fileName) {
+        String base = baseName(fileName);
+        if (base == null) return null;
+        String prefix = base.startsWith(APPLICATION) ? APPLICATION : BOOTSTRAP;
+        return base.length() > prefix.length() ? base.substring(prefix.length() + 1) : null;
+    }
+
+    /**
+     * Lower rank wins: profile-specific before default, .properties before YAML, application before bootstrap.
+     */
+    public static int getPrecedence(@NotNull String fileName) {
+        String base = baseName(fileName);
+        if (base == null) return Integer.MAX_VALUE;
+
+        int rank = 0;
+        if (base.startsWith(BOOTSTRAP)) rank += 4;
+        if (getProfile(fileName) == null) rank += 2;
+        if (!fileName.endsWith(".properties")) rank += 1;
+        return rank;
+    }
+
+    /**
+     * All config files in scope, highest precedence first; src/main/resources wins over other roots.
+     */
+    public static @NotNull List<VirtualFile> findConfigFiles(@NotNull GlobalSearchScope scope) {
+        long start = YamlBuddyMetrics.start();
+        try {
+            List<String> names = new ArrayList<>();
+            FilenameIndex.processAllFileNames(name -> {
+                if (isConfigFileName(name)) names.add(name);
+                return true;
+            }, scope, null);
+
+            List<VirtualFile> result = new ArrayList<>();
+            for (String name : names) {
+                result.addAll(FilenameIndex.getVirtualFilesByName(name, scope));
+            }
+            result.sort(Comparator
+                    .comparingInt((VirtualFile file) -> getPrecedence(file.getName()))
+                    .thenComparingInt(SpringConfigFiles::getLocationRank));
+            return result;
+        } finally {
+            YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.FILE_DISCOVERY, start);
+        }
+    }
+
+    private static int getLocationRank(VirtualFile file) {
+        String path = file.getPath();
+        return path.contains("/src/main/resources") ? 0 : (path.contains("/resources") ? 1 : 2);
+    }
+
+    /**
+     * File name without extension if it is a config file, e.g. "application-prod"; otherwise null.
+     */
+    private static @Nullable String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) return null;
+
+        String extension = fileName.substring(dot + 1);
+        if (!extension.equals("properties") && !extension.equals("yml") && !extension.equals("yaml")) return null;
+
+        String base = fileName.substring(0, dot);
+        for (String prefix : new String[]{APPLICATION, BOOTSTRAP}) {
+            if (base.equals(prefix)) return base;
+            if (base.startsWith(prefix + "-") && base.length() > prefix.length() + 1) return base;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.marko.yamlbuddy.diagnostics;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.colors.EditorFontType;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.DumbAwareToggleAction;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextArea;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tool window content showing {@link YamlBuddyMetrics}; refreshed on demand so it costs nothing while idle.
+ */
+public class DiagnosticsPanel extends SimpleToolWindowPanel {
+
+    private static final Logger LOG = Logger.getInstance(DiagnosticsPanel.class);
+
+    private final JBTextArea text = new JBTextArea();
+
+    public DiagnosticsPanel() {
+        super(true, true);
+
+        text.setEditable(false);
+        text.setFont(EditorFontType.getGlobalPlainFont());
+        setContent(new JBScrollPane(text));
+
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new DumbAwareToggleAction("Record Metrics", "Time the hot paths and count cache hits", AllIcons.Actions.Execute) {
+            @Override
+            public boolean isSelected(@NotNull AnActionEvent e) {
+                return YamlBuddyMetrics.isEnabled();
+            }
+
+            @Override
+            public void setSelected(@NotNull AnActionEvent e, boolean state) {
+                YamlBuddyMetrics.setEnabled(state);
+                refresh();
+            }
+
+            @Override
+            public @NotNull ActionUpdateThread getActionUpdateThread() {
+                return ActionUpdateThread.EDT;
+            }
+        });
+        group.add(new DumbAwareAction("Refresh", "Show the current values", AllIcons.Actions.Refresh) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction("Reset", "Clear all timers and counters", AllIcons.Actions.GC) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                YamlBuddyMetrics.reset();
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction("Export to Log", "Write the current values to idea.log", AllIcons.Actions.Download) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                LOG.info("YAML Buddy metrics:\n" + YamlBuddyMetrics.dump());
+            }
+        });
+
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar("YamlBuddyDiagnostics", group, true);
+        toolbar.setTargetComponent(this);
+        setToolbar(toolbar.getComponent());
+
+        refresh();
+    }
+
+    private void refresh() {
+        text.setText(YamlBuddyMetrics.dump());
+        text.setCaretPosition(0);
+    }
+}
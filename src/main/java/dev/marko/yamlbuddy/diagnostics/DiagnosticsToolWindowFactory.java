@@ -0,0 +1,27 @@
+package dev.marko.yamlbuddy.diagnostics;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Only shown with -DyamlBuddy.metrics=true or in internal mode; regular users never see the metrics panel.
+ */
+public class DiagnosticsToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+    @Override
+    public boolean shouldBeAvailable(@NotNull Project project) {
+        return YamlBuddyMetrics.isEnabled() || ApplicationManager.getApplication().isInternal();
+    }
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        Content content = ContentFactory.getInstance().createContent(new DiagnosticsPanel(), "Metrics", false);
+        toolWindow.getContentManager().addContent(content);
+    }
+}
@@ -0,0 +1,158 @@
+package dev.marko.yamlbuddy.diagnostics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timers and cache counters around the plugin's hot paths, for the diagnostics tool window.
+ * Recording is off by default; while off, {@link #start()} returns 0 and every other call is a
+ * single volatile read. Enable with -DyamlBuddy.metrics=true or from the tool window.
+ */
+public final class YamlBuddyMetrics {
+
+    private static volatile boolean enabled = Boolean.getBoolean("yamlBuddy.metrics");
+
+    public enum Timer {
+        FILE_DISCOVERY("Config file discovery"),
+        MODEL_BUILD("Key model build"),
+        PLACEHOLDER_COLLECTION("@Value PSI walk"),
+        MISSING_KEY_CHECK("Missing key batch check"),
+        KEY_RESOLUTION("Key resolution to PSI"),
+        QUICK_FIX_WRITE("Quick fix YAML write");
+
+        private final String displayName;
+        private final Histogram histogram = new Histogram();
+
+        Timer(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /**
+     * Cached values whose hit rate is tracked: every computation is a miss, recorded by its timer.
+     */
+    public enum Cache {
+        MODEL("Key model", Timer.MODEL_BUILD),
+        MISSING_SITES("Missing sites per file", Timer.MISSING_KEY_CHECK);
+
+        private final String displayName;
+        private final Timer computation;
+        private final LongAdder requests = new LongAdder();
+
+        Cache(String displayName, Timer computation) {
+            this.displayName = displayName;
+            this.computation = computation;
+        }
+    }
+
+    private YamlBuddyMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Start timestamp for {@link #stop}, or 0 when recording is off.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public static void stop(@NotNull Timer timer, long start) {
+        if (start != 0) timer.histogram.record(System.nanoTime() - start);
+    }
+
+    public static void request(@NotNull Cache cache) {
+        if (enabled) cache.requests.increment();
+    }
+
+    public static void reset() {
+        for (Timer timer : Timer.values()) timer.histogram.reset();
+        for (Cache cache : Cache.values()) cache.requests.reset();
+    }
+
+    /**
+     * Plain-text table of all metrics, used by the tool window and the log export.
+     */
+    public static @NotNull String dump() {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format(Locale.ROOT, "%-26s %8s %10s %10s %10s   %s%n",
+                "Timer", "count", "avg ms", "max ms", "total ms", Histogram.HEADER));
+        for (Timer timer : Timer.values()) {
+            Histogram h = timer.histogram;
+            long count = h.count.sum();
+            result.append(String.format(Locale.ROOT, "%-26s %8d %10.3f %10.3f %10.1f   %s%n",
+                    timer.displayName, count,
+                    count == 0 ? 0.0 : toMillis(h.totalNanos.sum()) / count,
+                    toMillis(h.maxNanos.get()),
+                    toMillis(h.totalNanos.sum()),
+                    h.bucketsToString()));
+        }
+
+        result.append(String.format(Locale.ROOT, "%n%-26s %8s %8s %8s%n", "Cache", "requests", "misses", "hit rate"));
+        for (Cache cache : Cache.values()) {
+            long requests = cache.requests.sum();
+            long misses = cache.computation.histogram.count.sum();
+            result.append(String.format(Locale.ROOT, "%-26s %8d %8d %7.1f%%%n",
+                    cache.displayName, requests, misses,
+                    requests == 0 ? 0.0 : 100.0 * Math.max(0, requests - misses) / requests));
+        }
+        return result.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Duration histogram with decade buckets from 10us to 100ms; contention-free updates.
+     */
+    private static final class Histogram {
+
+        private static final long[] BOUNDS = {10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+        private static final String HEADER = "<10us <100us <1ms <10ms <100ms >=100ms";
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+
+            int bucket = 0;
+            while (bucket < BOUNDS.length && nanos >= BOUNDS[bucket]) bucket++;
+            buckets[bucket].increment();
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (LongAdder bucket : buckets) bucket.reset();
+        }
+
+        String bucketsToString() {
+            StringBuilder result = new StringBuilder();
+            for (LongAdder bucket : buckets) {
+                if (!result.isEmpty()) result.append(' ');
+                result.append(bucket.sum());
+            }
+            return result.toString();
+        }
+    }
+}
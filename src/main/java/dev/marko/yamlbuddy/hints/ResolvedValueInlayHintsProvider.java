@@ -0,0 +1,62 @@
+package dev.marko.yamlbuddy.hints;
+
+import com.intellij.codeInsight.hints.declarative.HintFormat;
+import com.intellij.codeInsight.hints.declarative.InlayHintsCollector;
+import com.intellij.codeInsight.hints.declarative.InlayHintsProvider;
+import com.intellij.codeInsight.hints.declarative.InlayTreeSink;
+import com.intellij.codeInsight.hints.declarative.InlineInlayPosition;
+import com.intellij.codeInsight.hints.declarative.SharedBypassCollector;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
+import dev.marko.yamlbuddy.util.ResolvedValueCache;
+import dev.marko.yamlbuddy.util.ResolvedValueCache.RenderedValue;
+import kotlin.Unit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows the configured value after each config key site (@Value placeholder, getProperty argument,
+ * @ConditionalOnProperty name): the default value and every profile override,
+ * with the defining files in the tooltip. Values come from {@link ResolvedValueCache}, so scrolling
+ * only costs a cache lookup per placeholder.
+ */
+public class ResolvedValueInlayHintsProvider implements InlayHintsProvider {
+
+    @Override
+    public @Nullable InlayHintsCollector createCollector(@NotNull PsiFile file, @NotNull Editor editor) {
+        // cached per file, each literal finds its own sites in O(1)
+        Map<PsiElement, List<PlaceholderSite>> sitesByLiteral = PlaceholderCollector.getSitesByLiteral(file);
+        if (sitesByLiteral.isEmpty()) return null;
+        ResolvedValueCache cache = ResolvedValueCache.getInstance(file.getProject());
+
+        return new SharedBypassCollector() {
+            @Override
+            public void collectFromElement(@NotNull PsiElement element, @NotNull InlayTreeSink sink) {
+                List<PlaceholderSite> literalSites = sitesByLiteral.get(element);
+                if (literalSites == null) return;
+
+                for (PlaceholderSite site : literalSites) {
+                    RenderedValue value = cache.get(element, site.key());
+                    if (value == null) continue;
+
+                    sink.addPresentation(
+                            new InlineInlayPosition(site.rangeInFile().getEndOffset(), true, 0),
+                            null,
+                            value.tooltip(),
+                            HintFormat.Companion.getDefault(),
+                            builder -> {
+                                builder.text("= " + value.text(), null);
+                                return Unit.INSTANCE;
+                            }
+                    );
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package dev.marko.yamlbuddy.index;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Indexed data of one key: the key as written in the file, offset of its key-value
+ * and its scalar value (null for mappings).
+ */
+public record ConfigKeyEntry(@NotNull String key, int offset, @Nullable String value) {
+
+    /**
+     * Values longer than this are cut, they are only used for display.
+     */
+    public static final int MAX_VALUE_LENGTH = 200;
+
+    public static ConfigKeyEntry of(@NotNull String key, int offset, @Nullable String value) {
+        if (value != null && value.length() > MAX_VALUE_LENGTH) {
+            value = value.substring(0, MAX_VALUE_LENGTH) + "…";
+        }
+        return new ConfigKeyEntry(key, offset, value);
+    }
+
+    static final DataExternalizer<ConfigKeyEntry> EXTERNALIZER = new DataExternalizer<>() {
+        @Override
+        public void save(@NotNull DataOutput out, ConfigKeyEntry entry) throws IOException {
+            IOUtil.writeUTF(out, entry.key());
+            DataInputOutputUtil.writeINT(out, entry.offset());
+            out.writeBoolean(entry.value() != null);
+            if (entry.value() != null) IOUtil.writeUTF(out, entry.value());
+        }
+
+        @Override
+        public ConfigKeyEntry read(@NotNull DataInput in) throws IOException {
+            String key = IOUtil.readUTF(in);
+            int offset = DataInputOutputUtil.readINT(in);
+            String value = in.readBoolean() ? IOUtil.readUTF(in) : null;
+            return new ConfigKeyEntry(key, offset, value);
+        }
+    };
+}
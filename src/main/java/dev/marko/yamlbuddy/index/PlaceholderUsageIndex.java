@@ -0,0 +1,348 @@
+package dev.marko.yamlbuddy.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.fileTypes.FileTypeManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.intellij.util.text.CharArrayCharSequence;
+import com.intellij.util.text.CharArrayUtil;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import dev.marko.yamlbuddy.util.PlaceholderParser;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the config keys Java and Kotlin sources use, in canonical form: ${...} placeholder keys,
+ * @ConfigurationProperties prefixes, @ConditionalOnProperty names and the literal arguments of
+ * getProperty/getRequiredProperty. The files using a key are then found by a single index lookup
+ * instead of a text search. Works on the raw text; callers confirm each hit against the PSI of the file.
+ */
+public class PlaceholderUsageIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create("dev.marko.yamlbuddy.placeholderUsages");
+
+    private static final String KOTLIN_FILE_TYPE = "Kotlin";
+
+    @Override
+    public @NotNull ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
+        return inputData -> {
+            // comments may quote keys (Javadoc examples, commented-out code) without using them
+            CharSequence text = maskComments(inputData.getContentAsText());
+            boolean kotlin = KOTLIN_FILE_TYPE.equals(inputData.getFileType().getName());
+            Map<String, Void> result = new HashMap<>();
+
+            if (PlaceholderParser.mayContainPlaceholder(text)) {
+                PlaceholderParser.parse(text, (start, end, keyStart, keyEnd, defaultStart, defaultEnd, depth) -> {
+                    // in Kotlin only "\${...}" is a Spring placeholder, a bare "${...}" is string interpolation
+                    if (kotlin && (start == 0 || text.charAt(start - 1) != '\\')) return;
+                    if (isPlainKey(text, keyStart, keyEnd)) addKey(result, text, keyStart, keyEnd);
+                });
+            }
+            collectFirstStringArgument(text, "@ConfigurationProperties", result);
+            collectConditions(text, result);
+            collectFirstStringArgument(text, ".getProperty", result);
+            collectFirstStringArgument(text, ".getRequiredProperty", result);
+
+            return result.isEmpty() ? Collections.emptyMap() : result;
+        };
+    }
+
+    /**
+     * Copy of text with line and block comments blanked out; offsets and line breaks are kept.
+     * String, text block and char literals are skipped, so "//" inside a URL stays.
+     */
+    static CharSequence maskComments(CharSequence text) {
+        if (StringUtil.indexOf(text, "//") < 0 && StringUtil.indexOf(text, "/*") < 0) return text;
+
+        char[] chars = CharArrayUtil.fromSequence(text);
+        int length = chars.length;
+        int i = 0;
+        while (i < length) {
+            char c = chars[i];
+            if (c == '"' && i + 2 < length && chars[i + 1] == '"' && chars[i + 2] == '"') {
+                int end = StringUtil.indexOf(text, "\"\"\"", i + 3);
+                i = end < 0 ? length : end + 3;
+            } else if (c == '"' || c == '\'') {
+                i = skipQuoted(chars, i, c);
+            } else if (c == '/' && i + 1 < length && chars[i + 1] == '/') {
+                while (i < length && chars[i] != '\n') chars[i++] = ' ';
+            } else if (c == '/' && i + 1 < length && chars[i + 1] == '*') {
+                int end = StringUtil.indexOf(text, "*/", i + 2);
+                end = end < 0 ? length : end + 2;
+                for (; i < end; i++) {
+                    if (chars[i] != '\n') chars[i] = ' ';
+                }
+            } else {
+                i++;
+            }
+        }
+        return new CharArrayCharSequence(chars);
+    }
+
+    private static int skipQuoted(char[] chars, int start, char quote) {
+        int i = start + 1;
+        while (i < chars.length && chars[i] != quote && chars[i] != '\n') {
+            if (chars[i] == '\\') i++;
+            i++;
+        }
+        return i + 1;
+    }
+
+    /**
+     * Adds the first string literal inside the parentheses following each occurrence of marker,
+     * e.g. "app" for @ConfigurationProperties(prefix = "app") or env.getProperty("app.url", ...).
+     */
+    private static void collectFirstStringArgument(CharSequence text, String marker, Map<String, Void> result) {
+        int length = text.length();
+        int from = 0;
+
+        while ((from = StringUtil.indexOf(text, marker, from)) >= 0) {
+            int i = from + marker.length();
+            from = i;
+
+            while (i < length && Character.isWhitespace(text.charAt(i))) i++;
+            if (i >= length || text.charAt(i) != '(') continue;
+
+            // the literal must come before the closing parenthesis of the argument list
+            while (i < length && text.charAt(i) != '"' && text.charAt(i) != ')') i++;
+            if (i >= length || text.charAt(i) != '"') continue;
+
+            int keyStart = i + 1;
+            int keyEnd = keyStart;
+            while (keyEnd < length && text.charAt(keyEnd) != '"' && text.charAt(keyEnd) != '\n') keyEnd++;
+            if (keyEnd < length && text.charAt(keyEnd) == '"' && isPlainKey(text, keyStart, keyEnd)) {
+                addKey(result, text, keyStart, keyEnd);
+            }
+        }
+    }
+
+    /**
+     * Every key of each @ConditionalOnProperty, joined like Spring does: prefix + "." + each name/value,
+     * arrays included ({"a", "b"} in Java, ["a", "b"] or arrayOf(...) in Kotlin). Without names the prefix
+     * itself is added, it still covers its keys in getUsedKeys.
+     */
+    private static void collectConditions(CharSequence text, Map<String, Void> result) {
+        String marker = "@ConditionalOnProperty";
+        int length = text.length();
+        int from = 0;
+
+        while ((from = StringUtil.indexOf(text, marker, from)) >= 0) {
+            int i = from + marker.length();
+            from = i;
+
+            while (i < length && Character.isWhitespace(text.charAt(i))) i++;
+            if (i >= length || text.charAt(i) != '(') continue;
+
+            String prefix = "";
+            List<String> names = new ArrayList<>();
+            for (String argument : splitArguments(text, i + 1)) {
+                int eq = argument.indexOf('=');
+                int quote = argument.indexOf('"');
+                String attribute = eq >= 0 && (quote < 0 || eq < quote) ? argument.substring(0, eq).trim() : "value";
+                List<String> literals = stringLiterals(argument);
+                if (attribute.equals("prefix")) {
+                    if (!literals.isEmpty()) prefix = literals.get(0).trim();
+                } else if (attribute.equals("name") || attribute.equals("value")) {
+                    names.addAll(literals);
+                }
+            }
+
+            if (names.isEmpty()) {
+                if (!prefix.isEmpty()) addKey(result, prefix);
+                continue;
+            }
+            for (String name : names) {
+                addKey(result, prefix.isEmpty() || prefix.endsWith(".") ? prefix + name.trim() : prefix + "." + name.trim());
+            }
+        }
+    }
+
+    /**
+     * Top-level, comma-separated arguments of the list starting at from (just past the opening parenthesis).
+     */
+    private static List<String> splitArguments(CharSequence text, int from) {
+        List<String> arguments = new ArrayList<>();
+        int depth = 0;
+        int start = from;
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                i++;
+                while (i < text.length() && text.charAt(i) != '"' && text.charAt(i) != '\n') {
+                    if (text.charAt(i) == '\\') i++;
+                    i++;
+                }
+            } else if (c == '(' || c == '{' || c == '[') {
+                depth++;
+            } else if ((c == ')' || c == '}' || c == ']') && depth > 0) {
+                depth--;
+            } else if (c == ')' || (c == ',' && depth == 0)) {
+                arguments.add(text.subSequence(start, i).toString());
+                if (c == ')') return arguments;
+                start = i + 1;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Contents of the plain string literals in an argument; literals with escapes or placeholders are skipped.
+     */
+    private static List<String> stringLiterals(String argument) {
+        List<String> literals = new ArrayList<>();
+        int i = 0;
+        while ((i = argument.indexOf('"', i)) >= 0) {
+            int end = argument.indexOf('"', i + 1);
+            if (end < 0) break;
+            if (isPlainKey(argument, i + 1, end) && argument.lastIndexOf('\\', end) < i) {
+                literals.add(argument.substring(i + 1, end));
+            }
+            i = end + 1;
+        }
+        return literals;
+    }
+
+    private static void addKey(Map<String, Void> result, String key) {
+        result.put(RelaxedNames.canonicalize(key), null);
+    }
+
+    private static void addKey(Map<String, Void> result, CharSequence text, int from, int to) {
+        addKey(result, text.subSequence(from, to).toString().trim());
+    }
+
+    /**
+     * Rejects empty keys, keys built from nested placeholders and matches that span code
+     * rather than a single string literal.
+     */
+    private static boolean isPlainKey(CharSequence text, int from, int to) {
+        if (from == to) return false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\n' || c == '$' || c == '{' || c == '}') return false;
+        }
+        return true;
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 5;
+    }
+
+    @Override
+    public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+        // Kotlin is an optional dependency, look its file type up by name
+        FileType kotlin = FileTypeManager.getInstance().findFileTypeByName(KOTLIN_FILE_TYPE);
+        return kotlin != null
+                ? new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE, kotlin)
+                : new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Every canonical key used anywhere in the project's Java and Kotlin sources; one pass over the index,
+     * cached until the index itself changes. For a single key prefer {@link #isUsed}.
+     */
+    public static @NotNull Set<String> getUsedKeys(@NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () -> {
+            Set<String> keys = new HashSet<>();
+            GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+            FileBasedIndex index = FileBasedIndex.getInstance();
+
+            // all-keys enumeration may include stale keys, keep only those still present in a project file
+            index.processAllKeys(NAME, key -> {
+                if (!index.processValues(NAME, key, null, (file, value) -> false, scope)) keys.add(key);
+                return true;
+            }, scope, null);
+
+            // brings the index up to date before reading its stamp
+            ModificationTracker indexStamp = () -> index.getIndexModificationStamp(NAME, project);
+            return CachedValueProvider.Result.create(
+                    Collections.unmodifiableSet(keys),
+                    indexStamp,
+                    ProjectRootManager.getInstance(project)
+            );
+        });
+    }
+
+    /**
+     * True if some project source uses canonicalKey; one index probe, stops at the first file.
+     */
+    public static boolean isUsed(@NotNull Project project, @NotNull String canonicalKey) {
+        return !FileBasedIndex.getInstance().processValues(NAME, canonicalKey, null, (file, value) -> false,
+                GlobalSearchScope.projectScope(project));
+    }
+
+    /**
+     * Files that use key (any relaxed spelling).
+     */
+    public static @NotNull Collection<VirtualFile> getFilesUsing(@NotNull String key, @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles(NAME, RelaxedNames.canonicalize(key), scope);
+    }
+
+    /**
+     * Files that use key or any key below it ("app" also finds ${app.timeout}); for renaming mapping keys.
+     */
+    public static @NotNull Set<VirtualFile> getFilesUsingKeyOrChildren(@NotNull Project project,
+                                                                       @NotNull String key,
+                                                                       @NotNull GlobalSearchScope scope) {
+        String canonical = RelaxedNames.canonicalize(key);
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        Set<VirtualFile> files = new LinkedHashSet<>(index.getContainingFiles(NAME, canonical, scope));
+        for (String used : getUsedKeys(project)) {
+            if (used.startsWith(canonical + ".") || used.startsWith(canonical + "[")) {
+                files.addAll(index.getContainingFiles(NAME, used, scope));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Files that use at least one config key, in scope.
+     */
+    public static @NotNull Set<VirtualFile> getFilesUsingAnyKey(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        Set<VirtualFile> files = new LinkedHashSet<>();
+        for (String key : getUsedKeys(project)) {
+            files.addAll(index.getContainingFiles(NAME, key, scope));
+        }
+        return files;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.marko.yamlbuddy.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import dev.marko.yamlbuddy.config.SpringConfigFiles;
+import dev.marko.yamlbuddy.util.PropertiesKeyParser;
+import dev.marko.yamlbuddy.util.YamlKeyExtractor;
+import dev.marko.yamlbuddy.util.YamlPsiUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.YAMLFile;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+import org.jetbrains.yaml.psi.YAMLPsiElement;
+import org.jetbrains.yaml.psi.YAMLScalar;
+import org.jetbrains.yaml.psi.YAMLSequenceItem;
+import org.jetbrains.yaml.psi.YAMLValue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indexes Spring config files (application/bootstrap, any profile, .yml/.yaml/.properties) into
+ * flattened entries keyed by the relaxed canonical form of the dot-path ({@link RelaxedNames#canonicalize}),
+ * so key lookups never need to build the PSI of a config file.
+ * YAML is read from the lexer token stream ({@link YamlKeyExtractor}); the PSI is only built for
+ * files using constructs the token reader does not handle.
+ */
+public class YamlPropertyKeyIndex extends FileBasedIndexExtension<String, ConfigKeyEntry> {
+
+    public static final ID<String, ConfigKeyEntry> NAME = ID.create("dev.marko.yamlbuddy.propertyKeys");
+
+    @Override
+    public @NotNull ID<String, ConfigKeyEntry> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, ConfigKeyEntry, FileContent> getIndexer() {
+        return inputData -> {
+            Map<String, ConfigKeyEntry> result = new HashMap<>();
+
+            // The canonical (relaxed) form is the index key, the spelling from the file is kept in the entry
+            if (inputData.getFileName().endsWith(".properties")) {
+                PropertiesKeyParser.collectKeys(inputData.getContentAsText(), (key, offset, value) ->
+                        result.putIfAbsent(RelaxedNames.canonicalize(key), ConfigKeyEntry.of(key, offset, value)));
+            } else if (!YamlKeyExtractor.collectKeys(inputData.getContentAsText(), (key, offset, value) ->
+                    result.putIfAbsent(RelaxedNames.canonicalize(key), ConfigKeyEntry.of(key, offset, value)))) {
+                // constructs the token-level reader does not handle (flow collections, complex keys) need the PSI
+                result.clear();
+                if (inputData.getPsiFile() instanceof YAMLFile yamlFile) {
+                    YamlPsiUtils.collectKeys(yamlFile, (key, element) -> result.putIfAbsent(
+                            RelaxedNames.canonicalize(key),
+                            ConfigKeyEntry.of(key, element.getTextRange().getStartOffset(), getScalarValue(element))
+                    ));
+                }
+            }
+            return result;
+        };
+    }
+
+    private static String getScalarValue(YAMLPsiElement element) {
+        YAMLValue value = element instanceof YAMLKeyValue kv ? kv.getValue()
+                : element instanceof YAMLSequenceItem item ? item.getValue()
+                : null;
+        return value instanceof YAMLScalar scalar ? scalar.getTextValue() : null;
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataExternalizer<ConfigKeyEntry> getValueExternalizer() {
+        return ConfigKeyEntry.EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return 5;
+    }
+
+    @Override
+    public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+        return file -> SpringConfigFiles.isConfigFileName(file.getName());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Returns the indexed keys of a single file.
+     */
+    public static @NotNull Map<String, ConfigKeyEntry> getKeys(@NotNull Project project, @NotNull VirtualFile file) {
+        Map<String, ConfigKeyEntry> data = FileBasedIndex.getInstance().getFileData(NAME, file, project);
+        return data != null ? data : Collections.emptyMap();
+    }
+}
@@ -0,0 +1,88 @@
+package dev.marko.yamlbuddy.inspection;
+
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.codeInsight.intention.preview.IntentionPreviewInfo;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.IncorrectOperationException;
+import dev.marko.yamlbuddy.util.YamlPsiUtils;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+import java.util.List;
+
+/**
+ * Creates every missing key of a Java file at once: one write command, one undo step, one document commit.
+ */
+public class CreateAllYamlKeysQuickFix implements LocalQuickFix, IntentionAction {
+
+    private final List<String> keyPaths;
+
+    public CreateAllYamlKeysQuickFix(List<String> keyPaths) {
+        this.keyPaths = List.copyOf(keyPaths);
+    }
+
+    // Local Quick Fix implementation (used by Inspection)
+
+    @Override
+    public @NotNull @Nls(capitalization = Nls.Capitalization.Sentence) String getName() {
+        return "Create all " + keyPaths.size() + " missing keys in the application config";
+    }
+
+    @Override
+    public @NotNull String getFamilyName() {
+        return "YAML Buddy QuickFixes";
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+        executeFix(project, descriptor.getPsiElement());
+    }
+
+    // Intention Action implementation (used by Annotator)
+
+    @Override
+    public @NotNull String getText() {
+        return getName();
+    }
+
+    @Override
+    public boolean isAvailable(@NotNull Project project, Editor editor, PsiFile file) {
+        return YamlKeyCreation.isAnyMissing(project, file, keyPaths);
+    }
+
+    @Override
+    public void invoke(@NotNull Project project, Editor editor, PsiFile file) throws IncorrectOperationException {
+        executeFix(project, file);
+    }
+
+    @Override
+    public boolean startInWriteAction() {
+        return false;
+    }
+
+    @Override
+    public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project, @NotNull ProblemDescriptor previewDescriptor) {
+        return YamlPsiUtils.previewKeyCreation(project, previewDescriptor.getPsiElement(), keyPaths);
+    }
+
+    @Override
+    public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project, @NotNull Editor editor, @NotNull PsiFile file) {
+        return YamlPsiUtils.previewKeyCreation(project, file, keyPaths);
+    }
+
+    // Shared logic
+
+    private void executeFix(Project project, PsiElement context) {
+        YamlKeyCreation.createInBackground(project, context, keyPaths, created -> {
+            if (!created.isEmpty()) {
+                created.get(0).navigate(true);
+            }
+        });
+    }
+}
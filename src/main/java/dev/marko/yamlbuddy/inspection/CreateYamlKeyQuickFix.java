@@ -1,10 +1,12 @@
 package dev.marko.yamlbuddy.inspection;
 
-import com.intellij.codeInsight.intention.IntentionAction; 
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.codeInsight.intention.preview.IntentionPreviewInfo;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.IncorrectOperationException;
 import dev.marko.yamlbuddy.util.YamlPsiUtils;
@@ -12,6 +14,8 @@ import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.yaml.psi.YAMLKeyValue;
 
+import java.util.List;
+
 /**
  * This class implements both LocalQuickFix (for inspections) and IntentionAction (for annotators).
  */
@@ -27,7 +31,7 @@ public class CreateYamlKeyQuickFix implements LocalQuickFix, IntentionAction {
 
     @Override
     public @NotNull @Nls(capitalization = Nls.Capitalization.Sentence) String getName() {
-        return "Create key '" + keyPath + "' in application.yaml";
+        return "Create key '" + keyPath + "' in the application config";
     }
 
     @Override
@@ -37,7 +41,7 @@ public class CreateYamlKeyQuickFix implements LocalQuickFix, IntentionAction {
 
     @Override
     public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-        executeFix(project);
+        executeFix(project, descriptor.getPsiElement());
     }
 
     // Intention Action implementation (used by Annotator)
@@ -50,28 +54,39 @@ public class CreateYamlKeyQuickFix implements LocalQuickFix, IntentionAction {
 
     @Override
     public boolean isAvailable(@NotNull Project project, Editor editor, PsiFile file) {
-        return true;
+        return YamlKeyCreation.isAnyMissing(project, file, List.of(keyPath));
     }
 
     @Override
     public void invoke(@NotNull Project project, Editor editor, PsiFile file) throws IncorrectOperationException {
-        executeFix(project);
+        executeFix(project, file);
     }
 
     @Override
     public boolean startInWriteAction() {
-        // Returns true as it modifies the application.yaml file
-        return true;
+        // Planning runs in a background read action, the write action is started once the plan is ready
+        return false;
     }
 
-    // Shared logic
+    @Override
+    public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project, @NotNull ProblemDescriptor previewDescriptor) {
+        return YamlPsiUtils.previewKeyCreation(project, previewDescriptor.getPsiElement(), List.of(keyPath));
+    }
 
-    private void executeFix(Project project) {
-        YamlPsiUtils.createMissingPathInYaml(project, keyPath);
+    @Override
+    public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project, @NotNull Editor editor, @NotNull PsiFile file) {
+        return YamlPsiUtils.previewKeyCreation(project, file, List.of(keyPath));
+    }
+
+    // Shared logic
 
-        YAMLKeyValue kv = YamlPsiUtils.findYamlKey(project, keyPath);
-        if (kv != null) {
-            kv.navigate(true);
-        }
+    private void executeFix(Project project, PsiElement context) {
+        YamlKeyCreation.createInBackground(project, context, List.of(keyPath), created -> {
+            // Navigate to the inserted element; only look the key up if it already existed
+            YAMLKeyValue kv = !created.isEmpty() ? created.get(0) : YamlPsiUtils.findYamlKey(project, keyPath);
+            if (kv != null) {
+                kv.navigate(true);
+            }
+        });
     }
 }
\ No newline at end of file
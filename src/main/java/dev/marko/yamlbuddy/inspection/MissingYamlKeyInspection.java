@@ -1,77 +1,86 @@
 package dev.marko.yamlbuddy.inspection;
 
 import com.intellij.codeInspection.*;
-import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
-import dev.marko.yamlbuddy.reference.YamlPropertyReference;
-import dev.marko.yamlbuddy.util.YamlPsiUtils;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel.BoundProperty;
+import dev.marko.yamlbuddy.util.ConfigurationPropertiesCollector;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Map;
 
 public class MissingYamlKeyInspection extends LocalInspectionTool {
 
-    private static final Pattern EL_PATTERN = Pattern.compile("\\$\\{\\s*([^}]+)\\s*}");
-
     @Override
     public @NotNull PsiElementVisitor buildVisitor(
             @NotNull ProblemsHolder holder,
             boolean isOnTheFly
     ) {
-        return new JavaElementVisitor() {
+        // In the editor YamlBuddyAnnotator reports the same results; this covers Inspect Code and offline runs
+        if (isOnTheFly) return PsiElementVisitor.EMPTY_VISITOR;
 
-            @Override
-            public void visitLiteralExpression(PsiLiteralExpression expression) {
-                super.visitLiteralExpression(expression);
+        PsiFile file = holder.getFile();
 
-                Object rawValue = expression.getValue();
-                if (!(rawValue instanceof String literal)) return;
+        // Shared with the annotator: one collection pass and one batch lookup per file
+        Map<PsiElement, List<PlaceholderSite>> missingSites = PlaceholderCollector.getMissingSites(file);
+        List<String> missingKeys = PlaceholderCollector.getMissingKeys(file);
+        List<BoundProperty> missingProperties = ConfigurationPropertiesCollector.getMissingProperties(file);
 
-                PsiAnnotation annotation =
-                        PsiTreeUtil.getParentOfType(expression, PsiAnnotation.class);
+        // Registered for UAST: the same visitor walks Java and Kotlin PSI, sites are keyed by source element
+        return new PsiElementVisitor() {
 
-                if (annotation == null ||
-                        !"org.springframework.beans.factory.annotation.Value"
-                                .equals(annotation.getQualifiedName())) {
-                    return;
-                }
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                super.visitElement(element);
 
-                Matcher matcher = EL_PATTERN.matcher(literal);
+                if (element instanceof PsiLanguageInjectionHost expression) {
+                    visitStringLiteral(expression);
+                } else if (element instanceof PsiClass aClass) {
+                    visitClass(aClass);
+                }
+            }
 
-                while (matcher.find()) {
-                    String key = matcher.group(1);
-                    if (key == null || key.isBlank()) continue;
+            private void visitStringLiteral(PsiLanguageInjectionHost expression) {
+                List<PlaceholderSite> missing = missingSites.get(expression);
+                if (missing == null) return;
 
-                    boolean resolved = false;
+                for (PlaceholderSite site : missing) {
+                    String key = site.key();
 
-                    for (PsiReference ref : expression.getReferences()) {
-                        if (ref instanceof YamlPropertyReference && ref.resolve() != null) {
-                            resolved = true;
-                            break;
-                        }
-                    }
+                    LocalQuickFix[] fixes = missingKeys.size() > 1
+                            ? new LocalQuickFix[]{new CreateYamlKeyQuickFix(key), new CreateAllYamlKeysQuickFix(missingKeys)}
+                            : new LocalQuickFix[]{new CreateYamlKeyQuickFix(key)};
 
-                    if (!resolved) {
+                    ProblemDescriptor descriptor = holder.getManager().createProblemDescriptor(
+                            expression,
+                            site.range(),
+                            "YAML key '" + key + "' not found",
+                            ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                            isOnTheFly,
+                            fixes
+                    );
 
-                        TextRange range = new TextRange(
-                                matcher.start() + 1,
-                                matcher.end() + 1
-                        );
+                    holder.registerProblem(descriptor);
+                }
+            }
 
-                        ProblemDescriptor descriptor = holder.getManager().createProblemDescriptor(
-                                expression,
-                                range,
-                                "YAML key '" + key + "' not found",
-                                ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
-                                isOnTheFly,
-                                new CreateYamlKeyQuickFix(key)
-                        );
+            private void visitClass(PsiClass aClass) {
+                for (BoundProperty property : missingProperties) {
+                    if (!(property.element() instanceof PsiNameIdentifierOwner owner)) continue;
+                    if (PsiTreeUtil.getParentOfType(property.element(), PsiClass.class) != aClass) continue;
 
+                    PsiElement nameIdentifier = owner.getNameIdentifier();
+                    if (nameIdentifier == null) continue;
 
-                        holder.registerProblem(descriptor);
-                    }
+                    holder.registerProblem(
+                            nameIdentifier,
+                            "YAML key '" + property.key() + "' not found",
+                            ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                            new CreateYamlKeyQuickFix(property.key())
+                    );
                 }
             }
         };
@@ -0,0 +1,105 @@
+package dev.marko.yamlbuddy.inspection;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.properties.psi.PropertiesFile;
+import com.intellij.lang.properties.psi.impl.PropertyImpl;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import dev.marko.yamlbuddy.config.SpringConfigFiles;
+import dev.marko.yamlbuddy.index.PlaceholderUsageIndex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.YAMLUtil;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+import org.jetbrains.yaml.psi.YAMLScalar;
+import org.jetbrains.yaml.psi.YamlPsiElementVisitor;
+
+import java.util.Set;
+
+/**
+ * Reports keys of Spring config files (YAML leaves and .properties entries) that no Java code uses:
+ * no @Value placeholder, @ConfigurationProperties prefix or getProperty call. Each key and its ancestors are probed in
+ * {@link PlaceholderUsageIndex}, so no Java file is searched while the inspection runs.
+ */
+public class UnusedYamlKeyInspection extends LocalInspectionTool {
+
+    /**
+     * Namespaces consumed by Spring Boot and common starters rather than by application code.
+     */
+    private static final Set<String> FRAMEWORK_NAMESPACES = Set.of(
+            "spring", "server", "logging", "management", "info", "debug", "trace", "springdoc", "eureka", "feign"
+    );
+
+    @Override
+    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        PsiFile file = holder.getFile();
+        if (!SpringConfigFiles.isConfigFileName(file.getName())) return PsiElementVisitor.EMPTY_VISITOR;
+
+        Project project = holder.getProject();
+
+        if (file instanceof PropertiesFile) {
+            return new PsiElementVisitor() {
+
+                @Override
+                public void visitElement(@NotNull PsiElement element) {
+                    super.visitElement(element);
+                    if (!(element instanceof PropertyImpl property)) return;
+
+                    ASTNode keyNode = property.getKeyNode();
+                    String key = property.getUnescapedKey();
+                    if (keyNode != null && key != null) check(holder, project, key, keyNode.getPsi());
+                }
+            };
+        }
+
+        return new YamlPsiElementVisitor() {
+
+            @Override
+            public void visitKeyValue(@NotNull YAMLKeyValue keyValue) {
+                super.visitKeyValue(keyValue);
+
+                // only leaves carry a value; a mapping is used when any of its keys is
+                if (!(keyValue.getValue() instanceof YAMLScalar)) return;
+
+                PsiElement keyElement = keyValue.getKey();
+                if (keyElement == null) return;
+
+                check(holder, project, YAMLUtil.getConfigFullName(keyValue), keyElement);
+            }
+        };
+    }
+
+    private static void check(ProblemsHolder holder, Project project, String key, PsiElement keyElement) {
+        if (isFrameworkKey(key) || isUsed(project, RelaxedNames.canonicalize(key))) return;
+
+        holder.registerProblem(
+                keyElement,
+                "Config key '" + key + "' is not used in code",
+                ProblemHighlightType.LIKE_UNUSED_SYMBOL
+        );
+    }
+
+    /**
+     * A key is used when it or one of its ancestors is; binding "app" covers "app.db.url" and "app.hosts[0]".
+     */
+    private static boolean isUsed(Project project, String canonicalKey) {
+        if (PlaceholderUsageIndex.isUsed(project, canonicalKey)) return true;
+
+        for (int i = canonicalKey.length() - 1; i > 0; i--) {
+            char c = canonicalKey.charAt(i);
+            if ((c == '.' || c == '[') && PlaceholderUsageIndex.isUsed(project, canonicalKey.substring(0, i))) return true;
+        }
+        return false;
+    }
+
+    private static boolean isFrameworkKey(String key) {
+        int dot = key.indexOf('.');
+        String namespace = dot < 0 ? key : key.substring(0, dot);
+        return FRAMEWORK_NAMESPACES.contains(namespace);
+    }
+}
@@ -0,0 +1,51 @@
+package dev.marko.yamlbuddy.inspection;
+
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import dev.marko.yamlbuddy.config.ConfigKeyModel;
+import dev.marko.yamlbuddy.util.YamlKeyIndexService;
+import dev.marko.yamlbuddy.util.YamlPsiUtils;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Shared flow of the create-key fixes: file discovery and planning run in a non-blocking background
+ * read action, only the insertion itself runs in the write action on the EDT.
+ */
+final class YamlKeyCreation {
+
+    private YamlKeyCreation() {
+    }
+
+    static void createInBackground(Project project,
+                                   @Nullable PsiElement context,
+                                   Collection<String> keyPaths,
+                                   Consumer<List<YAMLKeyValue>> onCreated) {
+        ReadAction.nonBlocking(() -> YamlPsiUtils.planKeyCreation(project, context, keyPaths))
+                .inSmartMode(project)
+                .finishOnUiThread(ModalityState.defaultModalityState(),
+                        plan -> onCreated.accept(YamlPsiUtils.applyKeyCreation(project, plan)))
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * True if at least one of keyPaths is still undefined for context's module, the model the inspection
+     * reports against; a hash probe per key. Without a context the project-wide model is used.
+     */
+    static boolean isAnyMissing(Project project, @Nullable PsiElement context, Collection<String> keyPaths) {
+        if (project.isDisposed()) return false;
+        YamlKeyIndexService keyIndex = YamlKeyIndexService.getInstance(project);
+        ConfigKeyModel model = context != null ? keyIndex.getModel(context) : keyIndex.getModel();
+        for (String keyPath : keyPaths) {
+            if (!model.contains(keyPath)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package dev.marko.yamlbuddy.reference;
+
+import com.intellij.patterns.StandardPatterns;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceContributor;
+import com.intellij.psi.PsiReferenceRegistrar;
+import com.intellij.psi.UastReferenceProvider;
+import com.intellij.psi.UastReferenceRegistrar;
+import com.intellij.util.ProcessingContext;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.uast.UElement;
+import org.jetbrains.uast.UInjectionHost;
+
+import java.util.List;
+
+/**
+ * References for literals that are a config key as a whole, in Java and Kotlin:
+ * env.getProperty("key") / getRequiredProperty("key") arguments and @ConditionalOnProperty names.
+ * The file's cached sites decide which literals qualify, so rename and find usages see the same
+ * keys as the inspection.
+ */
+public class ConfigKeyLiteralReferenceContributor extends PsiReferenceContributor {
+
+    @Override
+    public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
+        UastReferenceRegistrar.registerUastReferenceProvider(
+                registrar,
+                StandardPatterns.instanceOf(UInjectionHost.class),
+                new UastReferenceProvider(List.of(UInjectionHost.class)) {
+
+                    @Override
+                    public PsiReference @NotNull [] getReferencesByElement(@NotNull UElement element,
+                                                                           @NotNull ProcessingContext context) {
+                        PsiElement host = element.getSourcePsi();
+                        if (host == null || host.getContainingFile() == null) return PsiReference.EMPTY_ARRAY;
+
+                        List<PlaceholderSite> sites = PlaceholderCollector.getSitesByLiteral(host.getContainingFile()).get(host);
+                        return sites != null ? YamlPropertyReference.createKeyLiteralReferences(host, sites) : PsiReference.EMPTY_ARRAY;
+                    }
+                },
+                PsiReferenceRegistrar.DEFAULT_PRIORITY
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package dev.marko.yamlbuddy.reference;
+
+import com.intellij.codeInsight.navigation.actions.GotoDeclarationHandler;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel.BoundProperty;
+import dev.marko.yamlbuddy.util.YamlKeyIndexService;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Ctrl+click on a field or record component of a @ConfigurationProperties class navigates to its config key.
+ */
+public class ConfigurationPropertiesGotoDeclarationHandler implements GotoDeclarationHandler {
+
+    @Override
+    public PsiElement @Nullable [] getGotoDeclarationTargets(@Nullable PsiElement sourceElement,
+                                                            int offset,
+                                                            Editor editor) {
+        if (!(sourceElement instanceof PsiIdentifier identifier)) return null;
+        if (!(identifier.getParent() instanceof PsiField) && !(identifier.getParent() instanceof PsiRecordComponent)) {
+            return null;
+        }
+
+        PsiClass psiClass = PsiTreeUtil.getParentOfType(identifier, PsiClass.class);
+        // nested property types are bound through their owner, walk up to the annotated class
+        while (psiClass != null) {
+            BoundProperty property = ConfigurationPropertiesModel.getInstance(psiClass).findProperty(identifier.getParent());
+            if (property != null) {
+                List<PsiElement> targets = YamlKeyIndexService.getInstance(psiClass.getProject())
+                        .resolveAll(identifier, property.key());
+                return targets.isEmpty() ? null : targets.toArray(PsiElement.EMPTY_ARRAY);
+            }
+            psiClass = PsiTreeUtil.getParentOfType(psiClass, PsiClass.class);
+        }
+        return null;
+    }
+}
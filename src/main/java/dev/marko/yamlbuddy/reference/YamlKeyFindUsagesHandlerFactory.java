@@ -0,0 +1,25 @@
+package dev.marko.yamlbuddy.reference;
+
+import com.intellij.find.findUsages.FindUsagesHandler;
+import com.intellij.find.findUsages.FindUsagesHandlerFactory;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Enables Find Usages (and Ctrl+click on the key itself) for keys of Spring config files.
+ * The default handler runs ReferencesSearch, which {@link YamlKeyReferencesSearcher} answers from the index.
+ */
+public class YamlKeyFindUsagesHandlerFactory extends FindUsagesHandlerFactory {
+
+    @Override
+    public boolean canFindUsages(@NotNull PsiElement element) {
+        return YamlKeyReferencesSearcher.isConfigKey(element);
+    }
+
+    @Override
+    public @Nullable FindUsagesHandler createFindUsagesHandler(@NotNull PsiElement element, boolean forHighlightUsages) {
+        return new FindUsagesHandler(element) {
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package dev.marko.yamlbuddy.reference;
+
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiSearchScopeUtil;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.Processor;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import dev.marko.yamlbuddy.config.SpringConfigFiles;
+import dev.marko.yamlbuddy.index.PlaceholderUsageIndex;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.YAMLUtil;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+/**
+ * Finds the @Value placeholders and key literals that reference a key of a Spring config file.
+ * For a mapping key such as "app" that includes every key below it: ${app.timeout} references "app" through
+ * its first segment, so renaming "app" rewrites that segment.
+ * Candidate files come from {@link PlaceholderUsageIndex}; only their cached placeholder sites are checked.
+ */
+public class YamlKeyReferencesSearcher extends QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters> {
+
+    public YamlKeyReferencesSearcher() {
+        super(true);
+    }
+
+    @Override
+    public void processQuery(@NotNull ReferencesSearch.SearchParameters parameters,
+                             @NotNull Processor<? super PsiReference> consumer) {
+        if (!(parameters.getElementToSearch() instanceof YAMLKeyValue keyValue)) return;
+        if (!isConfigKey(keyValue)) return;
+
+        Project project = keyValue.getProject();
+        String key = RelaxedNames.canonicalize(YAMLUtil.getConfigFullName(keyValue));
+        SearchScope scope = parameters.getEffectiveSearchScope();
+        GlobalSearchScope indexScope = scope instanceof GlobalSearchScope global
+                ? global
+                : GlobalSearchScope.projectScope(project);
+
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (VirtualFile file : PlaceholderUsageIndex.getFilesUsingKeyOrChildren(project, key, indexScope)) {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile == null || !PsiSearchScopeUtil.isInScope(scope, psiFile)) continue;
+
+            for (PlaceholderSite site : PlaceholderCollector.getSites(psiFile)) {
+                String siteKey = RelaxedNames.canonicalize(site.key());
+                boolean exact = key.equals(siteKey);
+                if (!exact && !siteKey.startsWith(key + ".") && !siteKey.startsWith(key + "[")) continue;
+
+                for (PsiReference reference : site.literal().getReferences()) {
+                    if (!(reference instanceof YamlPropertyReference leaf)
+                            || !reference.getRangeInElement().equals(site.keyRange())) {
+                        continue;
+                    }
+                    PsiReference found = exact ? leaf : createSegmentReference(leaf, site, keyValue);
+                    if (found != null && found.isReferenceTo(keyValue) && !consumer.process(found)) return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reference to the segment(s) of a longer key that spell keyValue's own key, or null when the literal
+     * does not spell them (e.g. they come from a @ConditionalOnProperty prefix attribute).
+     */
+    private static @Nullable PsiReference createSegmentReference(YamlPropertyReference leaf,
+                                                                PlaceholderSite site,
+                                                                YAMLKeyValue keyValue) {
+        YAMLKeyValue parent = PsiTreeUtil.getParentOfType(keyValue, YAMLKeyValue.class);
+        String parentKey = parent != null ? RelaxedNames.canonicalize(YAMLUtil.getConfigFullName(parent)) : "";
+        String ownKey = RelaxedNames.canonicalize(YAMLUtil.getConfigFullName(keyValue));
+
+        // the literal may spell only the tail of the key, see YamlPropertyReference#handleElementRename
+        String spelled = site.keyRange().substring(site.literal().getText());
+        String key = site.key();
+        int outer = key.endsWith(spelled) ? key.length() - spelled.length() : 0;
+
+        int start = parentKey.isEmpty() ? 0 : spelledPrefixEnd(key, parentKey);
+        int end = spelledPrefixEnd(key, ownKey);
+        if (start < 0 || end < 0) return null;
+        if (start < key.length() && key.charAt(start) == '.') start++;
+        if (start < outer) return null;
+
+        TextRange range = new TextRange(start - outer, end - outer).shiftRight(site.keyRange().getStartOffset());
+        return new YamlKeySegmentReference(leaf, range);
+    }
+
+    /**
+     * End of the shortest prefix of key, cut at a segment boundary, whose canonical form is canonicalPrefix.
+     */
+    private static int spelledPrefixEnd(String key, String canonicalPrefix) {
+        for (int i = 1; i <= key.length(); i++) {
+            if (i < key.length() && key.charAt(i) != '.' && key.charAt(i) != '[') continue;
+            if (RelaxedNames.canonicalize(key.substring(0, i)).equals(canonicalPrefix)) return i;
+        }
+        return -1;
+    }
+
+    static boolean isConfigKey(@NotNull PsiElement element) {
+        PsiFile file = element.getContainingFile();
+        return element instanceof YAMLKeyValue && file != null && SpringConfigFiles.isConfigFileName(file.getName());
+    }
+}
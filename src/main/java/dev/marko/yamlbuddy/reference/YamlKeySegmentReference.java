@@ -0,0 +1,54 @@
+package dev.marko.yamlbuddy.reference;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.ElementManipulators;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReferenceBase;
+import com.intellij.psi.ResolveResult;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.IncorrectOperationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+/**
+ * The part of a key literal that spells a parent mapping key: "app" in ${app.timeout} when "app" itself is
+ * searched or renamed. Only produced by {@link YamlKeyReferencesSearcher}; it resolves through the leaf
+ * reference, so it stays valid for every profile that defines the leaf under that parent.
+ */
+final class YamlKeySegmentReference extends PsiReferenceBase<PsiElement> {
+
+    private final YamlPropertyReference leaf;
+
+    YamlKeySegmentReference(@NotNull YamlPropertyReference leaf, @NotNull TextRange segmentRange) {
+        super(leaf.getElement(), segmentRange);
+        this.leaf = leaf;
+    }
+
+    @Override
+    public @Nullable PsiElement resolve() {
+        return leaf.resolve();
+    }
+
+    @Override
+    public boolean isReferenceTo(@NotNull PsiElement element) {
+        if (!(element instanceof YAMLKeyValue)) return false;
+
+        PsiManager manager = getElement().getManager();
+        for (ResolveResult result : leaf.multiResolve(false)) {
+            PsiElement resolved = result.getElement();
+            if (resolved != null && PsiTreeUtil.isAncestor(element, resolved, true)) return true;
+            if (manager.areElementsEquivalent(resolved, element)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Replaces only the spelled segment(s), e.g. ${app.timeout} -> ${service.timeout} for app -> service.
+     */
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName) throws IncorrectOperationException {
+        return ElementManipulators.handleContentChange(getElement(), getRangeInElement(), newElementName);
+    }
+}
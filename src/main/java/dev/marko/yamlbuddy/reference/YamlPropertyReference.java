@@ -1,16 +1,22 @@
 package dev.marko.yamlbuddy.reference;
 
+import com.intellij.codeInsight.completion.CompletionUtilCore;
 import com.intellij.codeInsight.daemon.EmptyResolveMessageProvider;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.*;
 import com.intellij.util.IncorrectOperationException;
-import dev.marko.yamlbuddy.util.YamlPsiUtils;
+import dev.marko.yamlbuddy.config.ConfigKeyModel;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import dev.marko.yamlbuddy.util.ConfigKeyLocation;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
+import dev.marko.yamlbuddy.util.YamlKeyIndexService;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class YamlPropertyReference
         extends PsiReferenceBase<PsiElement>
@@ -18,8 +24,6 @@ public class YamlPropertyReference
 
     private final String keyPath;
 
-    private static final Pattern EL_PATTERN = Pattern.compile("\\$\\{\\s*([^}]+)\\s*}");
-
     public YamlPropertyReference(@NotNull PsiElement element,
                                  @NotNull TextRange range,
                                  @NotNull String keyPath) {
@@ -29,21 +33,47 @@ public class YamlPropertyReference
 
     @Override
     public PsiElement resolve() {
-        return YamlPsiUtils.findYamlKey(getElement().getProject(), keyPath);
+        PsiElement element = getElement();
+        return YamlKeyIndexService.getInstance(element.getProject()).resolve(element, keyPath);
     }
 
     @Override
     public ResolveResult @NotNull [] multiResolve(boolean incompleteCode) {
-        PsiElement resolved = resolve();
-        if (resolved == null) {
-            return ResolveResult.EMPTY_ARRAY;
-        }
-        return new ResolveResult[]{new PsiElementResolveResult(resolved)};
+        // Every profile / file that defines the key, from one model lookup
+        PsiElement element = getElement();
+        List<PsiElement> resolved = YamlKeyIndexService.getInstance(element.getProject()).resolveAll(element, keyPath);
+        return PsiElementResolveResult.createResults(resolved);
     }
 
+    /**
+     * Completion inside ${...}: a prefix range of the model's sorted keys, no YAML PSI involved.
+     */
     @Override
     public Object @NotNull [] getVariants() {
-        return new Object[0]; // Later: YAML autocomplete
+        PsiElement element = getElement();
+        ConfigKeyModel model = YamlKeyIndexService.getInstance(element.getProject()).getModel(element);
+
+        // During completion the key contains the dummy identifier right at the caret
+        int caret = keyPath.indexOf(CompletionUtilCore.DUMMY_IDENTIFIER_TRIMMED);
+        String prefix = caret >= 0 ? keyPath.substring(0, caret) : keyPath;
+
+        List<String> keys = model.getKeysWithPrefix(prefix);
+        int canonicalPrefixLength = RelaxedNames.canonicalizePrefix(prefix).length();
+        LookupElement[] variants = new LookupElement[keys.size()];
+        for (int i = 0; i < variants.length; i++) {
+            String key = keys.get(i);
+            ConfigKeyLocation location = model.getEffectiveLocation(key);
+
+            // inserts the spelled key, but matches what was typed: "my.someV" + "alue" for "my.some-value"
+            String typed = prefix + RelaxedNames.canonicalize(key).substring(canonicalPrefixLength);
+            LookupElementBuilder builder = LookupElementBuilder.create(key).withLookupString(typed);
+            if (location != null) {
+                if (location.value() != null) builder = builder.withTailText(" = " + location.value(), true);
+                builder = builder.withTypeText(location.file().getName());
+            }
+            variants[i] = builder;
+        }
+        return variants;
     }
 
     @Override
@@ -51,38 +81,87 @@ public class YamlPropertyReference
         return "YAML key '" + keyPath + "' not found";
     }
 
+    /**
+     * A key is referenced from every file that defines it, not only from the effective one.
+     */
     @Override
-    public PsiElement handleElementRename(@NotNull String newElementName)
-            throws IncorrectOperationException {
-        throw new IncorrectOperationException("Rename not supported for YAML EL references");
+    public boolean isReferenceTo(@NotNull PsiElement element) {
+        PsiManager manager = getElement().getManager();
+        for (ResolveResult result : multiResolve(false)) {
+            if (manager.areElementsEquivalent(result.getElement(), element)) return true;
+        }
+        return false;
     }
 
     /**
-     * Factory method: extracts all ${...} references from a PsiLiteral.
+     * Renaming a YAML key replaces the trailing segments it spells; "a.b.url" -> "a.b.uri",
+     * and a dotted key such as "b.url" renamed to "c.uri" replaces two segments.
      */
-    public static PsiReference @NotNull [] createReferences(@NotNull PsiLiteral literal) {
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName)
+            throws IncorrectOperationException {
+        // references are updated before the key itself, so this still resolves to the old name
+        String oldName = resolve() instanceof YAMLKeyValue keyValue ? keyValue.getKeyText() : newElementName;
 
-        Object rawValue = literal.getValue();
-        if (!(rawValue instanceof String literalText)) {
-            return PsiReference.EMPTY_ARRAY;
+        int segments = 1;
+        for (int i = 0; i < oldName.length(); i++) {
+            if (oldName.charAt(i) == '.') segments++;
         }
 
-        List<PsiReference> refs = new ArrayList<>();
-        Matcher matcher = EL_PATTERN.matcher(literalText);
+        int prefixEnd = keyPath.length();
+        for (int i = 0; i < segments && prefixEnd >= 0; i++) {
+            prefixEnd = keyPath.lastIndexOf('.', prefixEnd - 1);
+        }
+        String newKey = prefixEnd < 0 ? newElementName : keyPath.substring(0, prefixEnd + 1) + newElementName;
 
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            if (key == null || key.isBlank()) continue;
+        // @ConditionalOnProperty(prefix = "app", name = "url") spells only the tail of "app.url"
+        String spelled = getRangeInElement().substring(getElement().getText());
+        String outer = keyPath.endsWith(spelled) ? keyPath.substring(0, keyPath.length() - spelled.length()) : "";
+        if (!newKey.startsWith(outer)) {
+            throw new IncorrectOperationException("'" + spelled + "' cannot spell the renamed key '" + newKey + "'");
+        }
+
+        return ElementManipulators.handleContentChange(getElement(), getRangeInElement(), newKey.substring(outer.length()));
+    }
 
-            int start = matcher.start(1);
-            int end = matcher.end(1);
+    /**
+     * Factory method: the ${...} placeholder sites of one @Value literal.
+     */
+    public static PsiReference @NotNull [] createReferences(@NotNull PsiElement literal,
+                                                            @NotNull List<PlaceholderSite> sites) {
+        List<PsiReference> refs = new ArrayList<>(sites.size());
+        for (PlaceholderSite site : sites) {
+            if (!site.range().equals(site.keyRange())) {
+                refs.add(new YamlPropertyReference(literal, site.keyRange(), site.key()));
+            }
+        }
+        return refs.toArray(PsiReference.EMPTY_ARRAY);
+    }
 
-            // offset by 1 to skip opening quote
-            TextRange range = new TextRange(1 + start, 1 + end);
+    /**
+     * Factory method: key-literal sites (getProperty arguments, @ConditionalOnProperty names) of one literal.
+     * @Value placeholders are left to {@link #createReferences}.
+     */
+    public static PsiReference @NotNull [] createKeyLiteralReferences(@NotNull PsiElement literal,
+                                                                     @NotNull List<PlaceholderSite> sites) {
+        List<PsiReference> refs = new ArrayList<>(1);
+        for (PlaceholderSite site : sites) {
+            if (site.range().equals(site.keyRange())) {
+                refs.add(new YamlPropertyReference(literal, site.keyRange(), site.key()));
+            }
+        }
+        return refs.toArray(PsiReference.EMPTY_ARRAY);
+    }
 
-            refs.add(new YamlPropertyReference(literal, range, key));
+    /**
+     * Factory method: the whole value of @ConfigurationProperties("prefix") references the prefix key.
+     */
+    public static PsiReference @NotNull [] createPrefixReferences(@NotNull PsiElement literal, @NotNull String prefix) {
+        if (prefix.isBlank()) {
+            return PsiReference.EMPTY_ARRAY;
         }
 
-        return refs.toArray(PsiReference[]::new);
+        TextRange range = ElementManipulators.getValueTextRange(literal);
+        return new PsiReference[]{new YamlPropertyReference(literal, range, prefix.trim())};
     }
 }
@@ -1,59 +1,63 @@
 package dev.marko.yamlbuddy.reference;
 
-import com.intellij.patterns.ElementPattern;
-import com.intellij.patterns.PlatformPatterns;
-import com.intellij.psi.*;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.patterns.StandardPatterns;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceContributor;
+import com.intellij.psi.PsiReferenceRegistrar;
+import com.intellij.psi.UastReferenceProvider;
+import com.intellij.psi.UastReferenceRegistrar;
 import com.intellij.util.ProcessingContext;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderParser;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
+import dev.marko.yamlbuddy.util.SpringAnnotations;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.uast.UAnnotation;
+import org.jetbrains.uast.UElement;
+import org.jetbrains.uast.UInjectionHost;
+import org.jetbrains.uast.UastUtils;
+
+import java.util.List;
 
 /**
- * Contributes references for string literals inside @Value("${...}").
+ * Contributes references for string literals inside @Value("${...}") and @ConfigurationProperties("prefix"),
+ * in Java and Kotlin. Placeholders come from the file's cached sites, like the key literals of
+ * {@link ConfigKeyLiteralReferenceContributor}.
  */
 public class YamlPropertyReferenceContributor extends PsiReferenceContributor {
 
-    private static final ElementPattern<PsiLiteralExpression> STRING_LITERAL =
-            PlatformPatterns.psiElement(PsiLiteralExpression.class);
-
     @Override
     public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
-
-        registrar.registerReferenceProvider(
-                STRING_LITERAL,
-                new PsiReferenceProvider() {
+        UastReferenceRegistrar.registerUastReferenceProvider(
+                registrar,
+                StandardPatterns.instanceOf(UInjectionHost.class),
+                new UastReferenceProvider(List.of(UInjectionHost.class)) {
 
                     @Override
-                    public PsiReference @NotNull [] getReferencesByElement(
-                            @NotNull PsiElement element,
-                            @NotNull ProcessingContext context
-                    ) {
-                        if (!(element instanceof PsiLiteralExpression literal)) {
-                            return PsiReference.EMPTY_ARRAY;
-                        }
-
-                        Object rawValue = literal.getValue();
-                        if (!(rawValue instanceof String value)) {
-                            return PsiReference.EMPTY_ARRAY;
-                        }
-
-                        // Must be inside @Value annotation
-                        PsiAnnotation annotation =
-                                PsiTreeUtil.getParentOfType(literal, PsiAnnotation.class);
-
-                        if (annotation == null ||
-                                !"org.springframework.beans.factory.annotation.Value"
-                                        .equals(annotation.getQualifiedName())) {
-                            return PsiReference.EMPTY_ARRAY;
-                        }
-
-                        // Must contain ${...}
-                        if (!value.contains("${") || !value.contains("}")) {
-                            return PsiReference.EMPTY_ARRAY;
+                    public PsiReference @NotNull [] getReferencesByElement(@NotNull UElement element,
+                                                                           @NotNull ProcessingContext context) {
+                        PsiElement host = element.getSourcePsi();
+                        if (host == null || host.getContainingFile() == null) return PsiReference.EMPTY_ARRAY;
+
+                        if (PlaceholderParser.mayContainPlaceholder(host.getNode().getChars())) {
+                            List<PlaceholderSite> sites = PlaceholderCollector.getSitesByLiteral(host.getContainingFile()).get(host);
+                            return sites != null ? YamlPropertyReference.createReferences(host, sites) : PsiReference.EMPTY_ARRAY;
                         }
-
-                        return YamlPropertyReference.createReferences(literal);
+                        return createPrefixReferences((UInjectionHost) element, host);
                     }
-                }
+                },
+                PsiReferenceRegistrar.DEFAULT_PRIORITY
         );
     }
+
+    private static PsiReference[] createPrefixReferences(UInjectionHost element, PsiElement host) {
+        UAnnotation annotation = UastUtils.getParentOfType(element, UAnnotation.class);
+        if (annotation == null || !SpringAnnotations.CONFIGURATION_PROPERTIES.equals(annotation.getQualifiedName())) {
+            return PsiReference.EMPTY_ARRAY;
+        }
+
+        String prefix = element.isString() ? element.evaluateToString() : null;
+        return prefix != null ? YamlPropertyReference.createPrefixReferences(host, prefix) : PsiReference.EMPTY_ARRAY;
+    }
 }
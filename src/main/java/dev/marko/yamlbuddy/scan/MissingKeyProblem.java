@@ -0,0 +1,15 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A missing key found by the project-wide scan; offset points at the key in the Java or Kotlin file.
+ */
+public record MissingKeyProblem(@NotNull VirtualFile file, int offset, @NotNull String key) {
+
+    @Override
+    public String toString() {
+        return key + "  —  " + file.getName();
+    }
+}
@@ -0,0 +1,88 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiNameIdentifierOwner;
+import com.intellij.psi.search.GlobalSearchScope;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel.BoundProperty;
+import dev.marko.yamlbuddy.index.PlaceholderUsageIndex;
+import dev.marko.yamlbuddy.util.ConfigurationPropertiesCollector;
+import dev.marko.yamlbuddy.util.PlaceholderCollector;
+import dev.marko.yamlbuddy.util.PlaceholderSite;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Project-wide missing-key analysis: finds the Java and Kotlin files that use config keys through
+ * {@link PlaceholderUsageIndex} and analyzes them concurrently, each file in its own short read action.
+ */
+public final class MissingKeyScanner {
+
+    private MissingKeyScanner() {
+    }
+
+    /**
+     * Streams the problems of each file to consumer (called from worker threads) as soon as that file is done.
+     */
+    public static void scan(@NotNull Project project,
+                            @NotNull ProgressIndicator indicator,
+                            @NotNull Consumer<List<MissingKeyProblem>> consumer) {
+        indicator.setIndeterminate(true);
+        indicator.setText("Finding config key usages");
+        List<VirtualFile> files = findCandidateFiles(project);
+
+        indicator.setIndeterminate(false);
+        indicator.setText("Checking placeholders");
+        int total = files.size();
+        int[] done = {0};
+
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(files, indicator, file -> {
+            List<MissingKeyProblem> problems = DumbService.getInstance(project)
+                    .runReadActionInSmartMode(() -> analyze(project, file));
+            if (!problems.isEmpty()) consumer.accept(problems);
+
+            synchronized (done) {
+                indicator.setFraction((double) ++done[0] / total);
+            }
+            return true;
+        });
+    }
+
+    private static List<VirtualFile> findCandidateFiles(Project project) {
+        return DumbService.getInstance(project).runReadActionInSmartMode(() ->
+                new ArrayList<>(PlaceholderUsageIndex.getFilesUsingAnyKey(project, GlobalSearchScope.projectScope(project))));
+    }
+
+    private static List<MissingKeyProblem> analyze(Project project, VirtualFile file) {
+        if (!file.isValid()) return List.of();
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+        if (psiFile == null) return List.of();
+
+        // Same cached per-file results the inspection uses, so no key is resolved twice
+        Map<PsiElement, List<PlaceholderSite>> missing = PlaceholderCollector.getMissingSites(psiFile);
+        List<MissingKeyProblem> problems = new ArrayList<>();
+        for (List<PlaceholderSite> sites : missing.values()) {
+            for (PlaceholderSite site : sites) {
+                problems.add(new MissingKeyProblem(file, site.rangeInFile().getStartOffset(), site.key()));
+            }
+        }
+        for (BoundProperty property : ConfigurationPropertiesCollector.getMissingProperties(psiFile)) {
+            PsiElement anchor = property.element() instanceof PsiNameIdentifierOwner owner && owner.getNameIdentifier() != null
+                    ? owner.getNameIdentifier()
+                    : property.element();
+            problems.add(new MissingKeyProblem(file, anchor.getTextRange().getStartOffset(), property.key()));
+        }
+        problems.sort((a, b) -> Integer.compare(a.offset(), b.offset()));
+        return problems;
+    }
+}
@@ -0,0 +1,156 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.startup.StartupManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Headless entry point for CI: opens a project, waits for indexing, runs the same concurrent
+ * {@link MissingKeyScanner} as the tool window and writes the result as SARIF or JSON.
+ * Exits with 1 when a key is missing, so the build fails.
+ * <p>
+ * Usage: {@code idea yamlBuddyCheck <project-dir> [--format=sarif|json] [--output=<file>]}
+ */
+public final class MissingKeysCheckStarter implements ApplicationStarter {
+
+    private static final Logger LOG = Logger.getInstance(MissingKeysCheckStarter.class);
+
+    static final int EXIT_OK = 0;
+    static final int EXIT_MISSING_KEYS = 1;
+    static final int EXIT_ERROR = 2;
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public int getRequiredModality() {
+        // indexing and the scan are waited for on this thread, never on the EDT
+        return NOT_IN_EDT;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        int exitCode;
+        try {
+            exitCode = run(args);
+        } catch (Throwable t) {
+            LOG.error(t);
+            exitCode = EXIT_ERROR;
+        }
+        System.exit(exitCode);
+    }
+
+    static int run(List<String> args) throws IOException {
+        // args[0] is the command name itself
+        Path projectDir = null;
+        MissingKeysReport.Format format = MissingKeysReport.Format.SARIF;
+        Path output = null;
+
+        for (int i = 1; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (arg.startsWith("--format=")) {
+                format = parseFormat(arg.substring("--format=".length()));
+                if (format == null) return usage();
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(arg.substring("--output=".length())).toAbsolutePath();
+            } else if (projectDir == null) {
+                projectDir = Path.of(arg).toAbsolutePath().normalize();
+            }
+        }
+        if (projectDir == null || !Files.isDirectory(projectDir)) return usage();
+
+        Project project = ProjectUtil.openOrImport(projectDir, null, false);
+        if (project == null) {
+            System.err.println("Cannot open project " + projectDir);
+            return EXIT_ERROR;
+        }
+
+        try {
+            long indexingStart = System.nanoTime();
+            waitForIndexing(project);
+            long scanStart = System.nanoTime();
+
+            int exitCode;
+            if (output != null) {
+                Files.createDirectories(output.getParent());
+                try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                    exitCode = check(project, format, writer);
+                }
+            } else {
+                Writer writer = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+                exitCode = check(project, format, writer);
+                writer.flush();
+            }
+
+            long end = System.nanoTime();
+            System.err.printf(Locale.ROOT, "YAML Buddy: indexing %d ms, scan %d ms%n",
+                    (scanStart - indexingStart) / 1_000_000, (end - scanStart) / 1_000_000);
+            return exitCode;
+        } finally {
+            ApplicationManager.getApplication().invokeAndWait(() -> ProjectManager.getInstance().closeAndDispose(project));
+        }
+    }
+
+    private static @Nullable MissingKeysReport.Format parseFormat(String name) {
+        for (MissingKeysReport.Format format : MissingKeysReport.Format.values()) {
+            if (format.name().equalsIgnoreCase(name)) return format;
+        }
+        return null;
+    }
+
+    private static int usage() {
+        System.err.println("Usage: yamlBuddyCheck <project-dir> [--format=sarif|json] [--output=<file>]");
+        return EXIT_ERROR;
+    }
+
+    /**
+     * Scans an open, indexed project and writes the report to out; returns the process exit code.
+     */
+    static int check(@NotNull Project project, @NotNull MissingKeysReport.Format format, @NotNull Writer out)
+            throws IOException {
+        ConcurrentLinkedQueue<MissingKeyProblem> found = new ConcurrentLinkedQueue<>();
+        MissingKeyScanner.scan(project, new EmptyProgressIndicator(), found::addAll);
+
+        List<MissingKeyProblem> problems = new ArrayList<>(found);
+        problems.sort(Comparator.comparing((MissingKeyProblem problem) -> problem.file().getPath())
+                .thenComparingInt(MissingKeyProblem::offset));
+
+        MissingKeysReport.write(project, problems, format, out);
+        System.err.printf(Locale.ROOT, "YAML Buddy: %d missing key(s)%n", problems.size());
+        return problems.isEmpty() ? EXIT_OK : EXIT_MISSING_KEYS;
+    }
+
+    /**
+     * Indexing only starts once the startup activities have run, so smart mode alone is not enough.
+     */
+    private static void waitForIndexing(Project project) {
+        CompletableFuture<Void> opened = new CompletableFuture<>();
+        StartupManager.getInstance(project).runAfterOpened(() -> opened.complete(null));
+        opened.join();
+        DumbService.getInstance(project).waitForSmartMode();
+    }
+}
@@ -0,0 +1,66 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.ui.components.JBList;
+import com.intellij.ui.components.JBScrollPane;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+
+/**
+ * Tool window content listing the results of the project-wide scan; double-click navigates.
+ */
+public class MissingKeysPanel extends SimpleToolWindowPanel {
+
+    private final Project project;
+    private final DefaultListModel<MissingKeyProblem> model = new DefaultListModel<>();
+    private final JBList<MissingKeyProblem> list = new JBList<>(model);
+
+    public MissingKeysPanel(@NotNull Project project) {
+        super(true, true);
+        this.project = project;
+
+        list.getEmptyText().setText("Run 'Scan @Value Placeholders' to find missing YAML keys");
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) navigateToSelection();
+            }
+        });
+        setContent(new JBScrollPane(list));
+
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(ActionManager.getInstance().getAction(ScanMissingKeysAction.ID));
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar("YamlBuddyScan", group, true);
+        toolbar.setTargetComponent(this);
+        setToolbar(toolbar.getComponent());
+    }
+
+    /**
+     * Must be called on the EDT.
+     */
+    public void clear() {
+        model.clear();
+    }
+
+    /**
+     * Must be called on the EDT.
+     */
+    public void addProblems(@NotNull List<MissingKeyProblem> problems) {
+        for (MissingKeyProblem problem : problems) model.addElement(problem);
+    }
+
+    private void navigateToSelection() {
+        MissingKeyProblem problem = list.getSelectedValue();
+        if (problem == null || !problem.file().isValid()) return;
+        new OpenFileDescriptor(project, problem.file(), problem.offset()).navigate(true);
+    }
+}
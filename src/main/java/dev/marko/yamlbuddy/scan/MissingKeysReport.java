@@ -0,0 +1,129 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.google.gson.stream.JsonWriter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the problems of a project scan as SARIF 2.1.0 (for code scanning UIs) or as a plain JSON array.
+ * Paths are relative to the project directory, lines and columns are 1-based.
+ */
+public final class MissingKeysReport {
+
+    public enum Format {
+        SARIF, JSON
+    }
+
+    private static final String RULE_ID = "YamlBuddyMissingKey";
+
+    private record Location(String path, int line, int column, String key) {
+    }
+
+    private MissingKeysReport() {
+    }
+
+    public static void write(@NotNull Project project,
+                             @NotNull List<MissingKeyProblem> problems,
+                             @NotNull Format format,
+                             @NotNull Writer out) throws IOException {
+        List<Location> locations = ReadAction.compute(() -> toLocations(project, problems));
+
+        // not closed: out may be stdout, the caller owns it
+        JsonWriter json = new JsonWriter(out);
+        json.setIndent("  ");
+        if (format == Format.SARIF) {
+            writeSarif(json, locations);
+        } else {
+            writeJson(json, locations);
+        }
+        json.flush();
+    }
+
+    private static List<Location> toLocations(Project project, List<MissingKeyProblem> problems) {
+        VirtualFile baseDir = ProjectUtil.guessProjectDir(project);
+        FileDocumentManager documents = FileDocumentManager.getInstance();
+
+        List<Location> locations = new ArrayList<>(problems.size());
+        for (MissingKeyProblem problem : problems) {
+            VirtualFile file = problem.file();
+            String path = baseDir != null ? VfsUtilCore.getRelativePath(file, baseDir) : null;
+
+            int line = 1;
+            int column = 1;
+            Document document = documents.getDocument(file);
+            if (document != null && problem.offset() <= document.getTextLength()) {
+                int lineIndex = document.getLineNumber(problem.offset());
+                line = lineIndex + 1;
+                column = problem.offset() - document.getLineStartOffset(lineIndex) + 1;
+            }
+            locations.add(new Location(path != null ? path : file.getPath(), line, column, problem.key()));
+        }
+        return locations;
+    }
+
+    private static void writeJson(JsonWriter json, List<Location> locations) throws IOException {
+        json.beginArray();
+        for (Location location : locations) {
+            json.beginObject();
+            json.name("file").value(location.path());
+            json.name("line").value(location.line());
+            json.name("column").value(location.column());
+            json.name("key").value(location.key());
+            json.endObject();
+        }
+        json.endArray();
+    }
+
+    private static void writeSarif(JsonWriter json, List<Location> locations) throws IOException {
+        json.beginObject();
+        json.name("version").value("2.1.0");
+        json.name("$schema").value("https://json.schemastore.org/sarif-2.1.0.json");
+        json.name("runs").beginArray().beginObject();
+
+        json.name("tool").beginObject().name("driver").beginObject();
+        json.name("name").value("YAML Buddy");
+        json.name("rules").beginArray().beginObject();
+        json.name("id").value(RULE_ID);
+        json.name("shortDescription").beginObject().name("text").value("YAML key missing").endObject();
+        json.endObject().endArray();
+        json.endObject().endObject();
+
+        json.name("results").beginArray();
+        for (Location location : locations) {
+            json.beginObject();
+            json.name("ruleId").value(RULE_ID);
+            json.name("level").value("error");
+            json.name("message").beginObject()
+                    .name("text").value("YAML key '" + location.key() + "' not found")
+                    .endObject();
+            json.name("locations").beginArray().beginObject();
+            json.name("physicalLocation").beginObject();
+            json.name("artifactLocation").beginObject()
+                    .name("uri").value(location.path())
+                    .name("uriBaseId").value("%SRCROOT%")
+                    .endObject();
+            json.name("region").beginObject()
+                    .name("startLine").value(location.line())
+                    .name("startColumn").value(location.column())
+                    .endObject();
+            json.endObject();
+            json.endObject().endArray();
+            json.endObject();
+        }
+        json.endArray();
+
+        json.endObject().endArray();
+        json.endObject();
+    }
+}
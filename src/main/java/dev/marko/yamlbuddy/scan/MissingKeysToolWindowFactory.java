@@ -0,0 +1,32 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class MissingKeysToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+    public static final String ID = "YAML Buddy";
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        MissingKeysPanel panel = new MissingKeysPanel(project);
+        Content content = ContentFactory.getInstance().createContent(panel, "Missing Keys", false);
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    /**
+     * The panel of the project's tool window, or null if the tool window was not created yet.
+     */
+    static @Nullable MissingKeysPanel findPanel(@NotNull ToolWindow toolWindow) {
+        for (Content content : toolWindow.getContentManager().getContents()) {
+            if (content.getComponent() instanceof MissingKeysPanel panel) return panel;
+        }
+        return null;
+    }
+}
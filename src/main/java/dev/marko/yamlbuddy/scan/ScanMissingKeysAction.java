@@ -0,0 +1,55 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Audits every @Value placeholder in the project in the background and streams misses into the tool window.
+ */
+public class ScanMissingKeysAction extends AnAction {
+
+    public static final String ID = "YamlBuddy.ScanMissingKeys";
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) return;
+
+        ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(MissingKeysToolWindowFactory.ID);
+        if (toolWindow == null) return;
+
+        toolWindow.activate(() -> {
+            MissingKeysPanel panel = MissingKeysToolWindowFactory.findPanel(toolWindow);
+            if (panel == null) return;
+            panel.clear();
+
+            ProgressManager.getInstance().run(new Task.Backgroundable(project, "Scanning @Value placeholders", true) {
+                @Override
+                public void run(@NotNull ProgressIndicator indicator) {
+                    MissingKeyScanner.scan(project, indicator, problems ->
+                            ApplicationManager.getApplication().invokeLater(
+                                    () -> panel.addProblems(problems), project.getDisposed()));
+                }
+            });
+        });
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabled(e.getProject() != null);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,228 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.*;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import dev.marko.yamlbuddy.config.SpringConfigFiles;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse dependencies from config keys to the Java files that use them.
+ * After a config file changes, in the editor or on disk, the key set of every module with registered files is diffed against
+ * the previous one in a background read action; only if keys were added or removed is
+ * {@link #getModificationTracker()} bumped and highlighting restarted, and only for the open files
+ * of that module that use one of those keys. Keys are tracked per module because files are checked
+ * against their module's model: a key removed from one module may still be defined by another.
+ * Edits that keep the key set (typing a value, reformatting) invalidate nothing.
+ */
+@Service(Service.Level.PROJECT)
+public final class ConfigKeyDependencies implements Disposable {
+
+    private final Project project;
+    private final SimpleModificationTracker keySetTracker = new SimpleModificationTracker();
+    private final ModificationTracker modificationTracker;
+
+    // canonical key -> Java files using it; only grows, a stale entry costs at most one extra restart
+    private final ConcurrentHashMap<String, Set<VirtualFile>> usages = new ConcurrentHashMap<>();
+
+    // module name ("" outside any module) -> key set the current highlighting of its files is based on
+    private final ConcurrentHashMap<String, Set<String>> knownKeys = new ConcurrentHashMap<>();
+
+    // file -> key collection last registered for it; callers pass their cached collection on every access
+    private final ConcurrentHashMap<VirtualFile, Collection<String>> registered = new ConcurrentHashMap<>();
+
+    public ConfigKeyDependencies(@NotNull Project project) {
+        this.project = project;
+
+        ProjectRootManager rootManager = ProjectRootManager.getInstance(project);
+        this.modificationTracker = () -> keySetTracker.getModificationCount()
+                + VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS.getModificationCount()
+                + rootManager.getModificationCount();
+
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+        }, this);
+
+        // config files changed outside the editor (VCS update, external tools) fire no PSI events when not loaded
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileContentChangeEvent
+                            && SpringConfigFiles.isConfigFileName(event.getFile().getName())) {
+                        scheduleCheck();
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    public static ConfigKeyDependencies getInstance(@NotNull Project project) {
+        return project.getService(ConfigKeyDependencies.class);
+    }
+
+    /**
+     * Changes only when the set of defined keys changes (or config files/roots move); results that
+     * depend on key presence alone, like the missing placeholders of a file, can be cached against it.
+     */
+    public @NotNull ModificationTracker getModificationTracker() {
+        return modificationTracker;
+    }
+
+    /**
+     * Records that file uses keys, so it is re-highlighted when one of them appears or disappears.
+     * Called on every access to a cached result; passing the same collection again is a no-op.
+     */
+    public void register(@NotNull VirtualFile file, @NotNull Collection<String> keys) {
+        if (registered.put(file, keys) == keys) return;
+
+        Module module = ModuleUtilCore.findModuleForFile(file, project);
+        knownKeys.computeIfAbsent(moduleKey(module), name ->
+                YamlKeyIndexService.getInstance(project).getModel(module).getCanonicalKeys());
+        for (String key : keys) {
+            usages.computeIfAbsent(RelaxedNames.canonicalize(key), k -> ConcurrentHashMap.newKeySet()).add(file);
+        }
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private void onChange(PsiTreeChangeEvent event) {
+        if (isConfigFile(event)) scheduleCheck();
+    }
+
+    private void scheduleCheck() {
+        if (knownKeys.isEmpty()) return;
+
+        ReadAction.nonBlocking(this::computeAffectedFiles)
+                .inSmartMode(project)
+                .coalesceBy(this)
+                .expireWith(this)
+                .finishOnUiThread(ModalityState.nonModal(), this::restart)
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    private static boolean isConfigFile(PsiTreeChangeEvent event) {
+        PsiFile file = event.getFile();
+        // file-level events (a config file created or deleted) carry the file as child instead
+        if (file == null && event.getChild() instanceof PsiFile child) file = child;
+        return file != null && SpringConfigFiles.isConfigFileName(file.getName());
+    }
+
+    private record KeySetChange(Map<String, Set<String>> keys, Set<VirtualFile> affectedFiles) {
+    }
+
+    private @Nullable KeySetChange computeAffectedFiles() {
+        YamlKeyIndexService keyIndex = YamlKeyIndexService.getInstance(project);
+        ModuleManager moduleManager = ModuleManager.getInstance(project);
+
+        Map<String, Set<String>> changed = new HashMap<>();
+        Set<VirtualFile> affected = new HashSet<>();
+        for (Map.Entry<String, Set<String>> entry : knownKeys.entrySet()) {
+            Module module = entry.getKey().isEmpty() ? null : moduleManager.findModuleByName(entry.getKey());
+            if (module == null && !entry.getKey().isEmpty()) continue;
+
+            Set<String> previous = entry.getValue();
+            Set<String> current = keyIndex.getModel(module).getCanonicalKeys();
+            if (previous.equals(current)) continue;
+
+            changed.put(entry.getKey(), current);
+            Set<VirtualFile> candidates = new HashSet<>();
+            collectUsages(previous, current, candidates);
+            collectUsages(current, previous, candidates);
+            for (VirtualFile file : candidates) {
+                if (file.isValid() && entry.getKey().equals(moduleKey(ModuleUtilCore.findModuleForFile(file, project)))) {
+                    affected.add(file);
+                }
+            }
+        }
+        return changed.isEmpty() ? null : new KeySetChange(changed, affected);
+    }
+
+    private static String moduleKey(@Nullable Module module) {
+        return module != null ? module.getName() : "";
+    }
+
+    /**
+     * Adds the files using a key that is in keys but not in other.
+     */
+    private void collectUsages(Set<String> keys, Set<String> other, Set<VirtualFile> affected) {
+        for (String key : keys) {
+            if (other.contains(key)) continue;
+            Set<VirtualFile> files = usages.get(key);
+            if (files != null) affected.addAll(files);
+        }
+    }
+
+    private void restart(@Nullable KeySetChange change) {
+        if (change == null) return;
+
+        knownKeys.putAll(change.keys());
+        if (change.affectedFiles().isEmpty()) return;
+
+        keySetTracker.incModificationCount();
+
+        FileEditorManager editorManager = FileEditorManager.getInstance(project);
+        PsiManager psiManager = PsiManager.getInstance(project);
+        DaemonCodeAnalyzer daemon = DaemonCodeAnalyzer.getInstance(project);
+        for (VirtualFile file : change.affectedFiles()) {
+            // closed files are highlighted from scratch when opened
+            if (!file.isValid() || !editorManager.isFileOpen(file)) continue;
+
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile != null) daemon.restart(psiFile);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLFile;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+import org.jetbrains.yaml.psi.YAMLSequenceItem;
+
+/**
+ * Where a key is defined: the key as spelled in the file, the config file, the offset of its key-value,
+ * the file's profile (null for default) and the scalar value as indexed (null for mappings).
+ * PSI is only built when a navigation target is actually requested.
+ */
+public record ConfigKeyLocation(@NotNull String key,
+                                @NotNull VirtualFile file,
+                                int offset,
+                                @Nullable String profile,
+                                @Nullable String value) {
+
+    public @Nullable PsiElement toPsi(@NotNull Project project) {
+        if (!file.isValid()) return null;
+
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+        if (psiFile == null) return null;
+
+        PsiElement leaf = psiFile.findElementAt(offset);
+        if (leaf == null) return null;
+        if (psiFile instanceof YAMLFile) {
+            return PsiTreeUtil.getNonStrictParentOfType(leaf, YAMLKeyValue.class, YAMLSequenceItem.class);
+        }
+        return leaf;
+    }
+}
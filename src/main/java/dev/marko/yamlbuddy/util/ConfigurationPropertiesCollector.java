@@ -0,0 +1,88 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel.BoundProperty;
+import dev.marko.yamlbuddy.config.EnvironmentVariableSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Required @ConfigurationProperties fields of a file that no config file defines, the counterpart of
+ * {@link PlaceholderCollector#getMissingSites} for bound classes. Shared by the inspection and the
+ * project-wide scan, cached on the file like the missing placeholder sites.
+ */
+public final class ConfigurationPropertiesCollector {
+
+    private ConfigurationPropertiesCollector() {
+    }
+
+    /**
+     * Missing required properties declared in this file, each (element, key) pair once.
+     */
+    public static @NotNull List<BoundProperty> getMissingProperties(@NotNull PsiFile file) {
+        Project project = file.getProject();
+        ConfigKeyDependencies dependencies = ConfigKeyDependencies.getInstance(project);
+        EnvironmentVariableSource environment = EnvironmentVariableSource.getInstance(project);
+        MissingProperties result = CachedValuesManager.getCachedValue(file, () -> CachedValueProvider.Result.create(
+                findMissingProperties(file, environment),
+                file,
+                PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                dependencies.getModificationTracker(),
+                environment.getModificationTracker()
+        ));
+
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile != null && !result.keys().isEmpty()) dependencies.register(virtualFile, result.keys());
+        return result.missing();
+    }
+
+    /**
+     * The required keys of the file and the properties among them that nothing defines.
+     */
+    private record MissingProperties(Set<String> keys, List<BoundProperty> missing) {
+    }
+
+    private static MissingProperties findMissingProperties(PsiFile file, EnvironmentVariableSource environment) {
+        // a superclass or nested type declared in the same file shows up in several models
+        Set<BoundProperty> result = new LinkedHashSet<>();
+        Set<String> requiredKeys = new HashSet<>();
+        for (PsiClass psiClass : PsiTreeUtil.findChildrenOfType(file, PsiClass.class)) {
+            ConfigurationPropertiesModel model = ConfigurationPropertiesModel.getInstance(psiClass);
+            if (model.getProperties().isEmpty()) continue;
+
+            // Only properties Spring cannot bind without a value must be configured
+            List<BoundProperty> required = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            for (BoundProperty property : model.getProperties()) {
+                if (!property.required()) continue;
+                if (property.element().getContainingFile() != file) continue;
+                required.add(property);
+                keys.add(property.key());
+            }
+            if (required.isEmpty()) continue;
+            requiredKeys.addAll(keys);
+
+            Set<String> missing = YamlKeyIndexService.getInstance(file.getProject()).findMissingKeys(psiClass, keys);
+            missing.removeIf(environment::isDefined);
+            for (BoundProperty property : required) {
+                if (missing.contains(property.key())) result.add(property);
+            }
+        }
+        return new MissingProperties(requiredKeys, result.isEmpty() ? Collections.emptyList() : List.copyOf(result));
+    }
+}
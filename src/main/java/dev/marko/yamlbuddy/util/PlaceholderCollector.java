@@ -0,0 +1,294 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.ArrayUtil;
+import dev.marko.yamlbuddy.config.EnvironmentVariableSource;
+import dev.marko.yamlbuddy.diagnostics.YamlBuddyMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.uast.UAnnotation;
+import org.jetbrains.uast.UCallExpression;
+import org.jetbrains.uast.UClassLiteralExpression;
+import org.jetbrains.uast.UElement;
+import org.jetbrains.uast.UExpression;
+import org.jetbrains.uast.UInjectionHost;
+import org.jetbrains.uast.ULiteralExpression;
+import org.jetbrains.uast.UPolyadicExpression;
+import org.jetbrains.uast.UastContextKt;
+import org.jetbrains.uast.UastUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Collects every config key a Java or Kotlin file uses in one pass and resolves them in one batch:
+ * @Value placeholders, Environment.getProperty/getRequiredProperty arguments and @ConditionalOnProperty names.
+ * Both results are cached on the file, so the annotator, the inspection and the inlay hints share the work.
+ * Classifying a literal resolves the annotation and the getProperty target in other files, so the sites
+ * also depend on Java/Kotlin structure changes and on the project roots, not only on the file itself.
+ */
+public final class PlaceholderCollector {
+
+    private static final String PROPERTY_RESOLVER = "org.springframework.core.env.PropertyResolver";
+    private static final String GET_PROPERTY = "getProperty";
+    private static final String GET_REQUIRED_PROPERTY = "getRequiredProperty";
+    private static final String VALUE_SHORT_NAME = StringUtil.getShortName(SpringAnnotations.VALUE);
+    private static final String CONDITIONAL_SHORT_NAME = StringUtil.getShortName(SpringAnnotations.CONDITIONAL_ON_PROPERTY);
+
+    private PlaceholderCollector() {
+    }
+
+    /**
+     * All key sites of the file, in document order.
+     */
+    public static @NotNull List<PlaceholderSite> getSites(@NotNull PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, () ->
+                CachedValueProvider.Result.create(collectSites(file), siteDependencies(file)));
+    }
+
+    /**
+     * Sites of the file grouped by literal, so a per-element caller (annotator, inlay hints) finds its own in O(1).
+     */
+    public static @NotNull Map<PsiElement, List<PlaceholderSite>> getSitesByLiteral(@NotNull PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, () -> {
+            Map<PsiElement, List<PlaceholderSite>> byLiteral = new HashMap<>();
+            for (PlaceholderSite site : getSites(file)) {
+                byLiteral.computeIfAbsent(site.literal(), literal -> new ArrayList<>(1)).add(site);
+            }
+            return CachedValueProvider.Result.create(byLiteral, siteDependencies(file));
+        });
+    }
+
+    /**
+     * Placeholders that nothing satisfies, grouped by literal: no default value, no config file
+     * defines the key and, when enabled, no environment variable binds to it.
+     * Only invalidated when the set of defined keys changes, not on every config edit.
+     */
+    public static @NotNull Map<PsiElement, List<PlaceholderSite>> getMissingSites(@NotNull PsiFile file) {
+        YamlKeyIndexService keyIndex = YamlKeyIndexService.getInstance(file.getProject());
+        ConfigKeyDependencies dependencies = ConfigKeyDependencies.getInstance(file.getProject());
+        EnvironmentVariableSource environment = EnvironmentVariableSource.getInstance(file.getProject());
+        YamlBuddyMetrics.request(YamlBuddyMetrics.Cache.MISSING_SITES);
+        MissingSites result = CachedValuesManager.getCachedValue(file, () -> {
+            List<PlaceholderSite> sites = getSites(file);
+
+            long start = YamlBuddyMetrics.start();
+            MissingSites missing = findMissingSites(file, sites, keyIndex, environment);
+            YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.MISSING_KEY_CHECK, start);
+
+            return CachedValueProvider.Result.create(
+                    missing,
+                    ArrayUtil.mergeArrays(siteDependencies(file), new Object[]{
+                            dependencies.getModificationTracker(), environment.getModificationTracker()})
+            );
+        });
+
+        // outside the provider: a cached result must still register its file with the dependency service
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile != null && !result.keys().isEmpty()) dependencies.register(virtualFile, result.keys());
+        return result.missing();
+    }
+
+    /**
+     * Distinct missing keys of the file, sorted; derived from {@link #getMissingSites}.
+     */
+    public static @NotNull List<String> getMissingKeys(@NotNull PsiFile file) {
+        Set<String> keys = new TreeSet<>();
+        for (List<PlaceholderSite> sites : getMissingSites(file).values()) {
+            for (PlaceholderSite site : sites) keys.add(site.key());
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static Object[] siteDependencies(PsiFile file) {
+        Project project = file.getProject();
+        ModificationTracker structure = PsiModificationTracker.getInstance(project)
+                .forLanguages(language -> language.isKindOf(JavaLanguage.INSTANCE) || "kotlin".equals(language.getID()));
+        return new Object[]{file, structure, ProjectRootManager.getInstance(project)};
+    }
+
+    /**
+     * The keys the file requires and the sites among them that nothing defines.
+     */
+    private record MissingSites(Set<String> keys, Map<PsiElement, List<PlaceholderSite>> missing) {
+    }
+
+    private static MissingSites findMissingSites(
+            PsiFile file,
+            List<PlaceholderSite> sites,
+            YamlKeyIndexService keyIndex,
+            EnvironmentVariableSource environment
+    ) {
+        Set<String> keys = new HashSet<>();
+        for (PlaceholderSite site : sites) {
+            if (!site.hasDefault()) keys.add(site.key());
+        }
+        if (keys.isEmpty()) return new MissingSites(Set.of(), Collections.emptyMap());
+
+        Set<String> missing = keyIndex.findMissingKeys(file, keys);
+        missing.removeIf(environment::isDefined);
+        if (missing.isEmpty()) return new MissingSites(keys, Collections.emptyMap());
+
+        Map<PsiElement, List<PlaceholderSite>> result = new HashMap<>();
+        for (PlaceholderSite site : sites) {
+            if (!site.hasDefault() && missing.contains(site.key())) {
+                result.computeIfAbsent(site.literal(), literal -> new ArrayList<>()).add(site);
+            }
+        }
+        return new MissingSites(keys, result);
+    }
+
+    private static List<PlaceholderSite> collectSites(PsiFile file) {
+        // Cheap text check first: most source files mention none of the supported forms
+        CharSequence contents = file.getViewProvider().getContents();
+        boolean annotations = StringUtil.contains(contents, VALUE_SHORT_NAME);
+        boolean calls = StringUtil.contains(contents, GET_PROPERTY) || StringUtil.contains(contents, GET_REQUIRED_PROPERTY);
+        boolean conditions = StringUtil.contains(contents, CONDITIONAL_SHORT_NAME);
+        if (!annotations && !calls && !conditions) return List.of();
+
+        long start = YamlBuddyMetrics.start();
+        List<PlaceholderSite> sites = new ArrayList<>();
+
+        file.accept(new PsiRecursiveElementWalkingVisitor() {
+
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                if (element instanceof PsiLanguageInjectionHost && !(element instanceof PsiComment)) {
+                    collectSites(element, annotations, calls || conditions, sites);
+                }
+                super.visitElement(element);
+            }
+        });
+        YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.PLACEHOLDER_COLLECTION, start);
+        return Collections.unmodifiableList(sites);
+    }
+
+    /**
+     * Classifies one string literal through UAST, so Java and Kotlin sources take the same path.
+     * Only literals that pass the text checks are converted.
+     */
+    private static void collectSites(PsiElement element, boolean annotations, boolean keyLiterals, List<PlaceholderSite> sites) {
+        CharSequence text = element.getNode().getChars();
+        boolean placeholders = PlaceholderParser.mayContainPlaceholder(text);
+        if (placeholders ? !annotations : !keyLiterals) return;
+
+        UInjectionHost host = UastContextKt.toUElement(element, UInjectionHost.class);
+        if (host == null || !host.isString() || isInterpolated(host)) return;
+
+        if (placeholders) {
+            UAnnotation annotation = UastUtils.getParentOfType(host, UAnnotation.class);
+            if (annotation != null && SpringAnnotations.VALUE.equals(annotation.getQualifiedName())) {
+                collectPlaceholders(element, text, sites);
+            }
+            return;
+        }
+
+        String key = host.evaluateToString();
+        if (key == null || key.isBlank()) return;
+
+        UElement parent = UastUtils.skipParenthesizedExprUp(host.getUastParent());
+        if (parent instanceof UCallExpression call) {
+            collectPropertyCall(element, call, key, sites);
+            return;
+        }
+
+        UAnnotation annotation = UastUtils.getParentOfType(host, UAnnotation.class);
+        if (annotation != null && SpringAnnotations.CONDITIONAL_ON_PROPERTY.equals(annotation.getQualifiedName())) {
+            collectCondition(element, annotation, key, sites);
+        }
+    }
+
+    /**
+     * env.getProperty("key") and env.getRequiredProperty("key") on any Spring PropertyResolver;
+     * getProperty(key, default) and getProperty(key, type, default) count as defaulted.
+     */
+    private static void collectPropertyCall(PsiElement element, UCallExpression call, String key, List<PlaceholderSite> sites) {
+        String name = call.getMethodName();
+        boolean required = GET_REQUIRED_PROPERTY.equals(name);
+        if (!required && !GET_PROPERTY.equals(name)) return;
+
+        List<UExpression> arguments = call.getValueArguments();
+        if (arguments.isEmpty() || arguments.get(0).getSourcePsi() != element) return;
+
+        PsiMethod method = call.resolve();
+        if (method == null || !InheritanceUtil.isInheritor(method.getContainingClass(), PROPERTY_RESOLVER)) return;
+
+        boolean hasDefault = !required && (arguments.size() > 2
+                || (arguments.size() == 2 && !(arguments.get(1) instanceof UClassLiteralExpression)));
+        addKeyLiteral(element, key, hasDefault, sites);
+    }
+
+    /**
+     * Each name of @ConditionalOnProperty(prefix = "app", name = {"a", "b"}); matchIfMissing = true counts as defaulted.
+     */
+    private static void collectCondition(PsiElement element, UAnnotation annotation, String name, List<PlaceholderSite> sites) {
+        if (!isAttributeValue(annotation, "name", element) && !isAttributeValue(annotation, "value", element)) return;
+
+        String prefix = evaluate(annotation, "prefix") instanceof String value ? value.trim() : "";
+        String key = prefix.isEmpty() || prefix.endsWith(".") ? prefix + name.trim() : prefix + "." + name.trim();
+        addKeyLiteral(element, key, Boolean.TRUE.equals(evaluate(annotation, "matchIfMissing")), sites);
+    }
+
+    private static boolean isAttributeValue(UAnnotation annotation, String attribute, PsiElement element) {
+        UExpression value = annotation.findDeclaredAttributeValue(attribute);
+        return value != null && PsiTreeUtil.isAncestor(value.getSourcePsi(), element, false);
+    }
+
+    private static @Nullable Object evaluate(UAnnotation annotation, String attribute) {
+        UExpression value = annotation.findDeclaredAttributeValue(attribute);
+        return value != null ? value.evaluate() : null;
+    }
+
+    /**
+     * A literal whose whole value is the key, e.g. "app.url" in env.getProperty("app.url").
+     */
+    private static void addKeyLiteral(PsiElement element, String key, boolean hasDefault, List<PlaceholderSite> sites) {
+        TextRange valueRange = ElementManipulators.getValueTextRange(element);
+        sites.add(new PlaceholderSite(element, valueRange, valueRange, key, hasDefault));
+    }
+
+    /**
+     * Kotlin templates with ${expression} entries are code, not Spring placeholders.
+     */
+    private static boolean isInterpolated(UInjectionHost host) {
+        if (!(host instanceof UPolyadicExpression polyadic)) return false;
+        for (UExpression operand : polyadic.getOperands()) {
+            if (!(operand instanceof ULiteralExpression)) return true;
+        }
+        return false;
+    }
+
+    private static void collectPlaceholders(PsiElement literal, CharSequence text, List<PlaceholderSite> sites) {
+        PlaceholderParser.parse(text, (start, end, keyStart, keyEnd, defaultStart, defaultEnd, depth) -> {
+            if (keyStart == keyEnd) return;
+            // keys built from other placeholders cannot be checked statically
+            if (PlaceholderParser.mayContainPlaceholder(text, keyStart, keyEnd)) return;
+
+            sites.add(new PlaceholderSite(
+                    literal,
+                    new TextRange(start, end),
+                    new TextRange(keyStart, keyEnd),
+                    text.subSequence(keyStart, keyEnd).toString(),
+                    defaultStart != PlaceholderParser.NO_DEFAULT
+            ));
+        });
+    }
+}
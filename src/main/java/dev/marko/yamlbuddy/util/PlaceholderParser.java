@@ -0,0 +1,130 @@
+package dev.marko.yamlbuddy.util;
+
+/**
+ * Hand-written tokenizer for Spring placeholders: ${key}, ${key:default} and nested ${a:${b}}.
+ * Reports offsets only, so scanning a literal allocates nothing; callers substring what they need.
+ */
+public final class PlaceholderParser {
+
+    public static final int NO_DEFAULT = -1;
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Receives every placeholder in document order; an outer placeholder is reported before the ones nested in it.
+     */
+    public interface Handler {
+
+        /**
+         * @param start        offset of "${"
+         * @param end          offset just after the closing "}"
+         * @param keyStart     start of the key, surrounding whitespace trimmed
+         * @param keyEnd       end of the key (exclusive), surrounding whitespace trimmed
+         * @param defaultStart start of the default value, or {@link #NO_DEFAULT} when there is no ':'
+         * @param defaultEnd   end of the default value (exclusive), or {@link #NO_DEFAULT}
+         * @param depth        0 for top-level placeholders, +1 for each enclosing placeholder
+         */
+        void placeholder(int start, int end, int keyStart, int keyEnd, int defaultStart, int defaultEnd, int depth);
+    }
+
+    private PlaceholderParser() {
+    }
+
+    public static void parse(CharSequence text, Handler handler) {
+        parse(text, 0, text.length(), 0, handler);
+    }
+
+    public static void parse(CharSequence text, int from, int to, Handler handler) {
+        parse(text, from, to, 0, handler);
+    }
+
+    /**
+     * True if the text contains at least one "${" opening.
+     */
+    public static boolean mayContainPlaceholder(CharSequence text) {
+        return mayContainPlaceholder(text, 0, text.length());
+    }
+
+    public static boolean mayContainPlaceholder(CharSequence text, int from, int to) {
+        for (int i = from; i < to - 1; i++) {
+            if (text.charAt(i) == '$' && text.charAt(i + 1) == '{') return true;
+        }
+        return false;
+    }
+
+    private static void parse(CharSequence text, int from, int to, int depth, Handler handler) {
+        int i = from;
+        while (i < to - 1) {
+            if (text.charAt(i) != '$' || text.charAt(i + 1) != '{') {
+                i++;
+                continue;
+            }
+
+            int close = findClose(text, i + 2, to);
+            if (close < 0) return; // unterminated, nothing more to report
+
+            int bodyStart = i + 2;
+            int separator = findSeparator(text, bodyStart, close);
+            int keyEnd = separator < 0 ? close : separator;
+
+            int keyStart = skipWhitespace(text, bodyStart, keyEnd);
+            int trimmedKeyEnd = trimWhitespace(text, keyStart, keyEnd);
+
+            int defaultStart = separator < 0 ? NO_DEFAULT : separator + 1;
+            int defaultEnd = separator < 0 ? NO_DEFAULT : close;
+
+            handler.placeholder(i, close + 1, keyStart, trimmedKeyEnd, defaultStart, defaultEnd, depth);
+
+            // nested placeholders can appear both in the key and in the default value
+            parse(text, bodyStart, keyEnd, depth + 1, handler);
+            if (separator >= 0) parse(text, defaultStart, close, depth + 1, handler);
+
+            i = close + 1;
+        }
+    }
+
+    /**
+     * Offset of the "}" matching an opening whose body starts at from, or -1.
+     */
+    private static int findClose(CharSequence text, int from, int to) {
+        int nesting = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                nesting++;
+            } else if (c == '}') {
+                if (nesting == 0) return i;
+                nesting--;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Offset of the first ':' that is not inside a nested placeholder, or -1.
+     */
+    private static int findSeparator(CharSequence text, int from, int to) {
+        int nesting = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                nesting++;
+            } else if (c == '}') {
+                nesting--;
+            } else if (c == SEPARATOR && nesting == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) from++;
+        return from;
+    }
+
+    private static int trimWhitespace(CharSequence text, int from, int to) {
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) to--;
+        return to;
+    }
+}
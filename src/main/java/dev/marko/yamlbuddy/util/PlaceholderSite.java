@@ -0,0 +1,23 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * One config key used by a string literal: a ${...} placeholder, or the whole literal when it is a
+ * getProperty argument or an @ConditionalOnProperty name. literal is the source element of the string
+ * (a Java literal or a Kotlin string template). Both ranges are relative to it: range covers the whole
+ * placeholder, keyRange only the key. hasDefault is set for ${key:default} and other forms that Spring
+ * resolves even when the key is not configured.
+ */
+public record PlaceholderSite(@NotNull PsiElement literal,
+                              @NotNull TextRange range,
+                              @NotNull TextRange keyRange,
+                              @NotNull String key,
+                              boolean hasDefault) {
+
+    public @NotNull TextRange rangeInFile() {
+        return range.shiftRight(literal.getTextRange().getStartOffset());
+    }
+}
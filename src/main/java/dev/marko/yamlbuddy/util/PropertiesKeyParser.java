@@ -0,0 +1,123 @@
+package dev.marko.yamlbuddy.util;
+
+/**
+ * Minimal .properties reader: reports every key with the offset of its first character and its value.
+ * Works on raw text, so it needs neither the Properties plugin nor a PSI tree.
+ */
+public final class PropertiesKeyParser {
+
+    public interface KeyConsumer {
+        void accept(String key, int offset, String value);
+    }
+
+    private PropertiesKeyParser() {
+    }
+
+    public static void collectKeys(CharSequence text, KeyConsumer consumer) {
+        int length = text.length();
+        int pos = 0;
+
+        while (pos < length) {
+            // skip leading whitespace of the logical line
+            while (pos < length && isBlank(text.charAt(pos))) pos++;
+            if (pos >= length) break;
+
+            char first = text.charAt(pos);
+            if (first == '\n' || first == '\r') {
+                pos++;
+                continue;
+            }
+            if (first == '#' || first == '!') {
+                pos = skipLine(text, pos);
+                continue;
+            }
+
+            int keyStart = pos;
+            StringBuilder key = new StringBuilder();
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (c == '\\' && pos + 1 < length) {
+                    key.append(text.charAt(pos + 1));
+                    pos += 2;
+                    continue;
+                }
+                if (c == '=' || c == ':' || isBlank(c) || c == '\n' || c == '\r') break;
+                key.append(c);
+                pos++;
+            }
+
+            int valueStart = skipSeparator(text, pos);
+            pos = skipLogicalLine(text, valueStart);
+
+            if (!key.isEmpty()) {
+                consumer.accept(key.toString(), keyStart, readValue(text, valueStart, pos));
+            }
+        }
+    }
+
+    /**
+     * Skips whitespace around the first '=' or ':' after the key.
+     */
+    private static int skipSeparator(CharSequence text, int pos) {
+        int length = text.length();
+        while (pos < length && isBlank(text.charAt(pos))) pos++;
+        if (pos < length && (text.charAt(pos) == '=' || text.charAt(pos) == ':')) pos++;
+        while (pos < length && isBlank(text.charAt(pos))) pos++;
+        return pos;
+    }
+
+    /**
+     * Value text with line continuations joined and simple escapes resolved.
+     */
+    private static String readValue(CharSequence text, int from, int to) {
+        StringBuilder value = new StringBuilder();
+        int pos = from;
+        while (pos < to) {
+            char c = text.charAt(pos);
+            if (c == '\\' && pos + 1 < to) {
+                char next = text.charAt(pos + 1);
+                if (next == '\n' || next == '\r') {
+                    // continuation: drop the line break and the next line's indentation
+                    pos += 2;
+                    if (next == '\r' && pos < to && text.charAt(pos) == '\n') pos++;
+                    while (pos < to && isBlank(text.charAt(pos))) pos++;
+                    continue;
+                }
+                value.append(next == 'n' ? '\n' : next == 't' ? '\t' : next);
+                pos += 2;
+                continue;
+            }
+            if (c == '\n' || c == '\r') break;
+            value.append(c);
+            pos++;
+        }
+        return value.toString().stripTrailing();
+    }
+
+    private static int skipLine(CharSequence text, int pos) {
+        while (pos < text.length() && text.charAt(pos) != '\n') pos++;
+        return pos + 1;
+    }
+
+    /**
+     * Skips the value, including continuation lines that end with an odd number of backslashes.
+     */
+    private static int skipLogicalLine(CharSequence text, int pos) {
+        int length = text.length();
+        while (pos < length) {
+            int backslashes = 0;
+            while (pos < length && text.charAt(pos) != '\n' && text.charAt(pos) != '\r') {
+                backslashes = text.charAt(pos) == '\\' ? backslashes + 1 : 0;
+                pos++;
+            }
+            if (pos < length && text.charAt(pos) == '\r') pos++;
+            if (pos < length && text.charAt(pos) == '\n') pos++;
+            if (backslashes % 2 == 0) break;
+        }
+        return pos;
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
@@ -0,0 +1,132 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import dev.marko.yamlbuddy.config.ConfigKeyModel;
+import dev.marko.yamlbuddy.config.RelaxedNames;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Bounded LRU cache of rendered key values ("30s · dev: 60s") for inlay hints, per module and key.
+ * Capped by entry count and by the total length of the cached strings; cleared when any config file changes.
+ * Values are rendered from the indexed {@link ConfigKeyModel}, never from YAML PSI.
+ */
+@Service(Service.Level.PROJECT)
+public final class ResolvedValueCache {
+
+    private static final int MAX_ENTRIES = 2_000;
+    private static final int MAX_CHARS = 128 * 1024;
+    private static final int MAX_VALUE_LENGTH = 40;
+
+    /**
+     * Inline text and tooltip of one key.
+     */
+    public record RenderedValue(@NotNull String text, @NotNull String tooltip) {
+
+        int weight() {
+            return text.length() + tooltip.length();
+        }
+    }
+
+    private final Project project;
+    private final LinkedHashMap<String, RenderedValue> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private int chars;
+    private long stamp = -1;
+
+    public ResolvedValueCache(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static ResolvedValueCache getInstance(@NotNull Project project) {
+        return project.getService(ResolvedValueCache.class);
+    }
+
+    /**
+     * Rendered value of key as seen from context's module, or null if no config file defines it.
+     */
+    public @Nullable RenderedValue get(@NotNull PsiElement context, @NotNull String key) {
+        YamlKeyIndexService keyIndex = YamlKeyIndexService.getInstance(project);
+        long currentStamp = keyIndex.getModificationTracker().getModificationCount();
+
+        Module module = ModuleUtilCore.findModuleForPsiElement(context);
+        String cacheKey = (module != null ? module.getName() : "") + '\u0000' + RelaxedNames.canonicalize(key);
+
+        synchronized (cache) {
+            if (stamp != currentStamp) {
+                cache.clear();
+                chars = 0;
+                stamp = currentStamp;
+            }
+            RenderedValue cached = cache.get(cacheKey);
+            if (cached != null) return cached;
+        }
+
+        RenderedValue rendered = render(keyIndex.getModel(context).getLocations(key));
+        if (rendered == null) return null;
+
+        synchronized (cache) {
+            if (stamp == currentStamp && cache.put(cacheKey, rendered) == null) {
+                chars += rendered.weight();
+                evict();
+            }
+        }
+        return rendered;
+    }
+
+    private void evict() {
+        Iterator<RenderedValue> eldest = cache.values().iterator();
+        while ((cache.size() > MAX_ENTRIES || chars > MAX_CHARS) && eldest.hasNext()) {
+            chars -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Default value first, then one "profile: value" per profile file that overrides it.
+     */
+    private static @Nullable RenderedValue render(List<ConfigKeyLocation> locations) {
+        if (locations.isEmpty()) return null;
+
+        StringBuilder text = new StringBuilder();
+        StringBuilder tooltip = new StringBuilder();
+
+        ConfigKeyLocation defaultLocation = null;
+        for (ConfigKeyLocation location : locations) {
+            if (location.profile() == null) {
+                defaultLocation = location;
+                break;
+            }
+        }
+        if (defaultLocation != null) {
+            text.append(shorten(defaultLocation.value()));
+            tooltip.append(describe(defaultLocation));
+        }
+
+        for (ConfigKeyLocation location : locations) {
+            if (location.profile() == null) continue;
+            if (!text.isEmpty()) text.append(" · ");
+            text.append(location.profile()).append(": ").append(shorten(location.value()));
+            if (!tooltip.isEmpty()) tooltip.append('\n');
+            tooltip.append(describe(location));
+        }
+        return new RenderedValue(text.toString(), tooltip.toString());
+    }
+
+    private static String describe(ConfigKeyLocation location) {
+        String value = location.value() != null ? location.value() : "(no scalar value)";
+        return location.file().getName() + ": " + location.key() + " = " + value;
+    }
+
+    private static String shorten(@Nullable String value) {
+        if (value == null) return "…";
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH) + "…";
+    }
+}
@@ -0,0 +1,32 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Spring annotations that bind configuration keys.
+ */
+public final class SpringAnnotations {
+
+    public static final String VALUE = "org.springframework.beans.factory.annotation.Value";
+
+    public static final String CONFIGURATION_PROPERTIES =
+            "org.springframework.boot.context.properties.ConfigurationProperties";
+
+    public static final String CONDITIONAL_ON_PROPERTY =
+            "org.springframework.boot.autoconfigure.condition.ConditionalOnProperty";
+
+    private SpringAnnotations() {
+    }
+
+    /**
+     * Compares the short name as written in source; unlike getQualifiedName() it never resolves imports.
+     */
+    public static boolean hasShortName(@NotNull PsiAnnotation annotation, @NotNull String qualifiedName) {
+        PsiJavaCodeReferenceElement nameRef = annotation.getNameReferenceElement();
+        if (nameRef == null) return false;
+        String shortName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        return shortName.equals(nameRef.getReferenceName());
+    }
+}
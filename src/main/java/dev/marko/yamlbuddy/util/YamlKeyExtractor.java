@@ -0,0 +1,163 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.yaml.YAMLTokenTypes;
+import org.jetbrains.yaml.lexer.YAMLFlexLexer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streaming YAML key reader: builds the flattened key table straight from the lexer's token stream,
+ * keeping only a stack of the enclosing keys, so multi-megabyte files never get a PSI tree.
+ * Reports the same paths and offsets as {@link YamlPsiUtils#collectKeys} ("a.b", "list[0].name").
+ * Flow collections, complex keys and top-level sequences are not handled; the caller falls back to PSI.
+ */
+public final class YamlKeyExtractor {
+
+    private YamlKeyExtractor() {
+    }
+
+    /**
+     * One enclosing key or sequence item and the column it starts at.
+     */
+    private static final class Frame {
+
+        final int column;
+        final String path;
+        final boolean item;
+        int items;
+
+        Frame(int column, String path, boolean item) {
+            this.column = column;
+            this.path = path;
+            this.item = item;
+        }
+    }
+
+    /**
+     * Reports every key to consumer in document order; returns false (after possibly reporting
+     * some keys) when the text uses a construct this reader does not support.
+     */
+    public static boolean collectKeys(CharSequence text, PropertiesKeyParser.KeyConsumer consumer) {
+        Lexer lexer = new YAMLFlexLexer();
+        lexer.start(text);
+
+        Deque<Frame> stack = new ArrayDeque<>();
+        int lineStart = 0;
+
+        // key or item whose value has not been seen yet
+        String pendingPath = null;
+        int pendingOffset = 0;
+        IElementType previous = null;
+
+        for (IElementType type; (type = lexer.getTokenType()) != null; lexer.advance()) {
+            int start = lexer.getTokenStart();
+
+            if (type == YAMLTokenTypes.WHITESPACE || type == YAMLTokenTypes.INDENT
+                    || type == YAMLTokenTypes.COMMENT || type == YAMLTokenTypes.ANCHOR || type == YAMLTokenTypes.TAG) {
+                continue;
+            }
+
+            if (type == YAMLTokenTypes.EOL) {
+                lineStart = lexer.getTokenEnd();
+            } else if (type == YAMLTokenTypes.DOCUMENT_MARKER || type == YAMLTokenTypes.DOCUMENT_END) {
+                stack.clear();
+            } else if (type == YAMLTokenTypes.SCALAR_KEY) {
+                int column = start - lineStart;
+                while (!stack.isEmpty() && stack.peek().column >= column) stack.pop();
+
+                String key = unquote(lexer.getTokenSequence().toString().trim());
+                String path = stack.isEmpty() ? key : stack.peek().path + "." + key;
+                stack.push(new Frame(column, path, false));
+
+                if (pendingPath != null) consumer.accept(pendingPath, pendingOffset, null);
+                pendingPath = path;
+                pendingOffset = start;
+                previous = type;
+                continue;
+            } else if (type == YAMLTokenTypes.COLON) {
+                // a colon not preceded by a plain key belongs to a quoted or complex key
+                if (previous != YAMLTokenTypes.SCALAR_KEY) return false;
+                previous = type;
+                continue;
+            } else if (type == YAMLTokenTypes.SEQUENCE_MARKER) {
+                int column = start - lineStart;
+                while (!stack.isEmpty()
+                        && (stack.peek().column > column || (stack.peek().item && stack.peek().column == column))) {
+                    stack.pop();
+                }
+                if (stack.isEmpty()) return false;
+
+                Frame owner = stack.peek();
+                String path = owner.path + "[" + owner.items++ + "]";
+                stack.push(new Frame(column, path, true));
+
+                if (pendingPath != null) consumer.accept(pendingPath, pendingOffset, null);
+                pendingPath = path;
+                pendingOffset = start;
+                previous = type;
+                continue;
+            } else if (type == YAMLTokenTypes.LBRACE || type == YAMLTokenTypes.LBRACKET
+                    || type == YAMLTokenTypes.QUESTION) {
+                return false;
+            } else if (pendingPath != null && isScalar(type)) {
+                consumer.accept(pendingPath, pendingOffset, scalarValue(type, lexer.getTokenSequence()));
+                pendingPath = null;
+            }
+
+            // anything else ends the pending entry without a scalar value
+            if (pendingPath != null) {
+                consumer.accept(pendingPath, pendingOffset, null);
+                pendingPath = null;
+            }
+            previous = type;
+        }
+
+        if (pendingPath != null) consumer.accept(pendingPath, pendingOffset, null);
+        return true;
+    }
+
+    private static boolean isScalar(IElementType type) {
+        return type == YAMLTokenTypes.TEXT
+                || type == YAMLTokenTypes.SCALAR_STRING
+                || type == YAMLTokenTypes.SCALAR_DSTRING
+                || type == YAMLTokenTypes.SCALAR_LIST
+                || type == YAMLTokenTypes.SCALAR_TEXT;
+    }
+
+    /**
+     * Value text close to YAMLScalar.getTextValue(): quotes removed, block scalars without their header line.
+     */
+    private static String scalarValue(IElementType type, CharSequence token) {
+        String text = token.toString();
+        if (type == YAMLTokenTypes.SCALAR_DSTRING || type == YAMLTokenTypes.SCALAR_STRING) {
+            return unquote(text);
+        }
+        if (type == YAMLTokenTypes.SCALAR_LIST || type == YAMLTokenTypes.SCALAR_TEXT) {
+            int header = text.indexOf('\n');
+            if (header < 0) return "";
+
+            String separator = type == YAMLTokenTypes.SCALAR_LIST ? "\n" : " ";
+            StringBuilder value = new StringBuilder();
+            for (String line : text.substring(header + 1).split("\n")) {
+                if (!value.isEmpty()) value.append(separator);
+                value.append(line.trim());
+            }
+            return value.toString();
+        }
+        return text.trim();
+    }
+
+    private static String unquote(String text) {
+        if (text.length() >= 2) {
+            char first = text.charAt(0);
+            if ((first == '"' || first == '\'') && text.charAt(text.length() - 1) == first) {
+                String inner = text.substring(1, text.length() - 1);
+                return first == '\'' ? inner.replace("''", "'") : inner;
+            }
+        }
+        return text;
+    }
+}
@@ -0,0 +1,185 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import dev.marko.yamlbuddy.config.ConfigKeyModel;
+import dev.marko.yamlbuddy.config.SpringConfigFiles;
+import dev.marko.yamlbuddy.diagnostics.YamlBuddyMetrics;
+import dev.marko.yamlbuddy.index.YamlPropertyKeyIndex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.YAMLLanguage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cache of every flattened key defined in the Spring config files (application/bootstrap,
+ * all profiles, YAML and .properties), merged into one {@link ConfigKeyModel} per module.
+ * A module only sees the config files of itself and its dependencies; elements outside
+ * any module fall back to a project-wide model.
+ * Built from {@link YamlPropertyKeyIndex} without loading any PSI, and rebuilt lazily
+ * after a config change, so a lookup is a single hash probe.
+ */
+@Service(Service.Level.PROJECT)
+public final class YamlKeyIndexService {
+
+    private static final Key<CachedValue<List<VirtualFile>>> MODULE_CONFIG_FILES =
+            Key.create("yamlBuddy.moduleConfigFiles");
+    private static final Key<CachedValue<ConfigKeyModel>> MODULE_MODEL =
+            Key.create("yamlBuddy.moduleModel");
+
+    private final Project project;
+    private final ModificationTracker modificationTracker;
+    private final CachedValue<ConfigKeyModel> projectModel;
+
+    public YamlKeyIndexService(@NotNull Project project) {
+        this.project = project;
+
+        // .properties PSI belongs to the Properties plugin, which we do not depend on, so match it by id
+        ModificationTracker configTracker = PsiModificationTracker.getInstance(project).forLanguages(language ->
+                language.isKindOf(YAMLLanguage.INSTANCE) || "Properties".equals(language.getID()));
+        ProjectRootManager rootManager = ProjectRootManager.getInstance(project);
+        this.modificationTracker = () -> configTracker.getModificationCount()
+                + VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS.getModificationCount()
+                + rootManager.getModificationCount();
+
+        this.projectModel = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        buildModel(SpringConfigFiles.findConfigFiles(GlobalSearchScope.projectScope(project))),
+                        modificationTracker
+                ),
+                false
+        );
+    }
+
+    public static YamlKeyIndexService getInstance(@NotNull Project project) {
+        return project.getService(YamlKeyIndexService.class);
+    }
+
+    /**
+     * Changes whenever the cached model may be stale; use it as a dependency of derived caches.
+     */
+    public @NotNull ModificationTracker getModificationTracker() {
+        return modificationTracker;
+    }
+
+    /**
+     * Project-wide model, for callers without a Java context (e.g. after creating a key).
+     */
+    public @NotNull ConfigKeyModel getModel() {
+        YamlBuddyMetrics.request(YamlBuddyMetrics.Cache.MODEL);
+        return projectModel.getValue();
+    }
+
+    /**
+     * Model of the module that owns context, covering that module and its dependencies.
+     */
+    public @NotNull ConfigKeyModel getModel(@NotNull PsiElement context) {
+        return getModel(ModuleUtilCore.findModuleForPsiElement(context));
+    }
+
+    /**
+     * Model of module and its dependencies; the project-wide model when module is null.
+     */
+    public @NotNull ConfigKeyModel getModel(@Nullable Module module) {
+        if (module == null) return getModel();
+
+        YamlBuddyMetrics.request(YamlBuddyMetrics.Cache.MODEL);
+        return CachedValuesManager.getManager(project).getCachedValue(module, MODULE_MODEL, () ->
+                CachedValueProvider.Result.create(buildModel(getConfigFiles(module)), modificationTracker), false);
+    }
+
+    /**
+     * Config files visible from the module, highest precedence first; only changes with VFS structure or roots.
+     */
+    public @NotNull List<VirtualFile> getConfigFiles(@NotNull Module module) {
+        return CachedValuesManager.getManager(project).getCachedValue(module, MODULE_CONFIG_FILES, () ->
+                CachedValueProvider.Result.create(
+                        SpringConfigFiles.findConfigFiles(module.getModuleWithDependenciesScope()),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        ProjectRootManager.getInstance(project)
+                ), false);
+    }
+
+    /**
+     * Returns the effective definition of dotPath (highest precedence file), or null if no config file defines it.
+     */
+    public @Nullable PsiElement resolve(@NotNull PsiElement context, @NotNull String dotPath) {
+        ConfigKeyLocation location = getModel(context).getEffectiveLocation(dotPath);
+        if (location == null) return null;
+
+        long start = YamlBuddyMetrics.start();
+        try {
+            return location.toPsi(project);
+        } finally {
+            YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.KEY_RESOLUTION, start);
+        }
+    }
+
+    /**
+     * Every definition of dotPath across profiles and file types, in precedence order.
+     */
+    public @NotNull List<PsiElement> resolveAll(@NotNull PsiElement context, @NotNull String dotPath) {
+        return toPsi(getModel(context).getLocations(dotPath));
+    }
+
+    /**
+     * Project-wide variant of {@link #resolveAll(PsiElement, String)}.
+     */
+    public @NotNull List<PsiElement> resolveAll(@NotNull String dotPath) {
+        return toPsi(getModel().getLocations(dotPath));
+    }
+
+    /**
+     * Batch lookup: probes all dotPaths against one snapshot of the context's model.
+     */
+    public @NotNull Set<String> findMissingKeys(@NotNull PsiElement context, @NotNull Collection<String> dotPaths) {
+        ConfigKeyModel snapshot = getModel(context);
+        Set<String> missing = new HashSet<>();
+        for (String dotPath : dotPaths) {
+            if (!snapshot.contains(dotPath)) missing.add(dotPath);
+        }
+        return missing;
+    }
+
+    private List<PsiElement> toPsi(List<ConfigKeyLocation> locations) {
+        long start = YamlBuddyMetrics.start();
+        List<PsiElement> result = new ArrayList<>();
+        for (ConfigKeyLocation location : locations) {
+            PsiElement element = location.toPsi(project);
+            if (element != null) result.add(element);
+        }
+        YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.KEY_RESOLUTION, start);
+        return result;
+    }
+
+    private ConfigKeyModel buildModel(List<VirtualFile> configFiles) {
+        long start = YamlBuddyMetrics.start();
+        ConfigKeyModel.Builder builder = new ConfigKeyModel.Builder();
+
+        // Files come in precedence order, so the first location of every key is the effective one
+        for (VirtualFile file : configFiles) {
+            builder.addFile(file, YamlPropertyKeyIndex.getKeys(project, file));
+        }
+        ConfigKeyModel model = builder.build();
+        YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.MODEL_BUILD, start);
+        return model;
+    }
+}
@@ -1,235 +1,444 @@
 package dev.marko.yamlbuddy.util;
 
+import com.intellij.codeInsight.intention.preview.IntentionPreviewInfo;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
 import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.ArrayUtil;
+import dev.marko.yamlbuddy.config.SpringConfigFiles;
+import dev.marko.yamlbuddy.diagnostics.YamlBuddyMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jps.model.java.JavaResourceRootType;
 import org.jetbrains.yaml.YAMLElementGenerator;
+import org.jetbrains.yaml.YAMLFileType;
+import org.jetbrains.yaml.YAMLUtil;
+import org.jetbrains.yaml.psi.YAMLDocument;
 import org.jetbrains.yaml.psi.YAMLFile;
 import org.jetbrains.yaml.psi.YAMLKeyValue;
 import org.jetbrains.yaml.psi.YAMLMapping;
+import org.jetbrains.yaml.psi.YAMLPsiElement;
+import org.jetbrains.yaml.psi.YAMLSequence;
+import org.jetbrains.yaml.psi.YAMLSequenceItem;
 import org.jetbrains.yaml.psi.YAMLValue;
 
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Helper class: locating application.yml, searching dot-paths and creating hierarchy.
  */
 public class YamlPsiUtils {
 
-    private static final List<String> CANDIDATES = Arrays.asList("application.yml", "application.yaml");
+    private static final int INDENT = 2;
+
+    private static final String NEW_FILE_NAME = "application.yaml";
+    private static final String NEW_FILE_HEADER = "# created by YAML Buddy\n";
+    private static final String PROPERTIES_EXTENSION = "properties";
+    private static final String NOTIFICATION_GROUP = "YAML Buddy";
 
     /**
-     * Starts searching through all candidate files; returns the first YAMLKeyValue that matches the dotPath.
+     * Returns the first YAMLKeyValue (in config file precedence) that matches the dotPath.
      */
     public static YAMLKeyValue findYamlKey(Project project, String dotPath) {
-        List<YAMLFile> files = findApplicationYamlFiles(project);
-        for (YAMLFile file : files) {
-            YAMLKeyValue kv = findKeyInYamlPsi(file, dotPath);
-            if (kv != null) return kv;
+        for (PsiElement element : YamlKeyIndexService.getInstance(project).resolveAll(dotPath)) {
+            if (element instanceof YAMLKeyValue kv) return kv;
         }
         return null;
     }
 
     /**
-     * Finds application.yml/yaml files in the project, prioritizing src/main/resources.
+     * Walks every document of the file and reports each key with its flattened dot-path.
+     * Sequence items are reported as YAMLSequenceItem with an indexed path ("servers[0]", "servers[0].host").
      */
-    public static List<YAMLFile> findApplicationYamlFiles(Project project) {
-        GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
-        List<YAMLFile> result = new ArrayList<>();
-        for (String name : CANDIDATES) {
-            PsiFile[] psiFiles = FilenameIndex.getFilesByName(project, name, scope);
-            Arrays.sort(psiFiles, (a, b) -> {
-                String pa = a.getVirtualFile().getPath();
-                String pb = b.getVirtualFile().getPath();
-                int wa = pa.contains("/src/main/resources") ? 0 : (pa.contains("/resources") ? 1 : 2);
-                int wb = pb.contains("/src/main/resources") ? 0 : (pb.contains("/resources") ? 1 : 2);
-                return Integer.compare(wa, wb);
-            });
-            for (PsiFile psi : psiFiles) {
-                if (psi instanceof YAMLFile) result.add((YAMLFile) psi);
+    public static void collectKeys(YAMLFile yamlFile, BiConsumer<String, YAMLPsiElement> consumer) {
+        for (YAMLDocument document : yamlFile.getDocuments()) {
+            collectKeys(document.getTopLevelValue(), "", consumer);
+        }
+    }
+
+    private static void collectKeys(YAMLValue value, String path, BiConsumer<String, YAMLPsiElement> consumer) {
+        if (value instanceof YAMLMapping mapping) {
+            String prefix = path.isEmpty() ? "" : path + ".";
+            for (YAMLKeyValue kv : mapping.getKeyValues()) {
+                String childPath = prefix + kv.getKeyText();
+                consumer.accept(childPath, kv);
+                // go deeper
+                collectKeys(kv.getValue(), childPath, consumer);
+            }
+        } else if (value instanceof YAMLSequence sequence && !path.isEmpty()) {
+            List<YAMLSequenceItem> items = sequence.getItems();
+            for (int i = 0; i < items.size(); i++) {
+                String itemPath = path + "[" + i + "]";
+                consumer.accept(itemPath, items.get(i));
+                collectKeys(items.get(i).getValue(), itemPath, consumer);
             }
         }
-        return result;
     }
 
     /**
-     * Searches dotPath inside YAML PSI. Returns YAMLKeyValue if it exists.
+     * Creates (or updates) the application.yaml file so that it contains the dotPath hierarchy.
      */
-    private static YAMLKeyValue findKeyInYamlPsi(YAMLFile yamlFile, String dotPath) {
-        List<String> parts = Arrays.asList(dotPath.split("\\."));
-        YAMLMapping root = PsiTreeUtil.findChildOfType(yamlFile, YAMLMapping.class);
-        if (root == null) return null;
-
-        YAMLMapping currentMapping = root;
-        for (int i = 0; i < parts.size(); i++) {
-            String part = parts.get(i);
-            YAMLKeyValue kv = currentMapping.getKeyValueByKey(part);
-            if (kv == null) {
-                return null;
+    public static List<YAMLKeyValue> createMissingPathInYaml(Project project, String dotPath) {
+        return createMissingPathsInYaml(project, null, List.of(dotPath));
+    }
+
+    /**
+     * Plans and applies in one go; prefer {@link #planKeyCreation} in a background read action
+     * followed by {@link #applyKeyCreation} when called from the EDT.
+     */
+    public static List<YAMLKeyValue> createMissingPathsInYaml(Project project,
+                                                            @Nullable PsiElement context,
+                                                            Collection<String> dotPaths) {
+        return applyKeyCreation(project, planKeyCreation(project, context, dotPaths));
+    }
+
+    /**
+     * Target file and key tree of a key creation. Built by {@link #planKeyCreation} without any write access.
+     */
+    public static final class KeyCreationPlan {
+
+        private final VirtualFile target;
+        private final String newFileDir;
+        private final List<String> dotPaths;
+        private final KeyNode tree;
+        private final List<String> unsupported = new ArrayList<>();
+
+        private KeyCreationPlan(VirtualFile target, String newFileDir, List<String> dotPaths) {
+            this.target = target;
+            this.newFileDir = newFileDir;
+            this.dotPaths = dotPaths;
+            this.tree = KeyNode.of(dotPaths, unsupported);
+        }
+
+        private boolean isProperties() {
+            return target != null && PROPERTIES_EXTENSION.equals(target.getExtension());
+        }
+    }
+
+    /**
+     * Read-only step: picks the config file of context's module to extend and merges the dotPaths into
+     * a prefix tree. The target is the module's own highest-precedence default-profile file (YAML or
+     * .properties), else its highest-precedence profile file; null if the module has no config file,
+     * in which case application.yaml is created in its resources root. Without a module the project's
+     * config files are used. Safe to run in a non-blocking background read action.
+     */
+    public static @NotNull KeyCreationPlan planKeyCreation(Project project,
+                                                           @Nullable PsiElement context,
+                                                           Collection<String> dotPaths) {
+        // a preview runs on a copy of the Java file, its module is the original's
+        PsiFile contextFile = context != null ? context.getContainingFile() : null;
+        Module module = contextFile != null ? ModuleUtilCore.findModuleForFile(contextFile.getOriginalFile()) : null;
+
+        List<VirtualFile> candidates = new ArrayList<>();
+        if (module != null) {
+            GlobalSearchScope ownScope = module.getModuleContentScope();
+            for (VirtualFile file : YamlKeyIndexService.getInstance(project).getConfigFiles(module)) {
+                if (ownScope.contains(file)) candidates.add(file);
             }
-            if (i == parts.size() - 1) return kv;
-            // go deeper
-            YAMLValue value = kv.getValue();
-            if (value instanceof YAMLMapping) {
-                currentMapping = (YAMLMapping) value;
-            } else {
-                return null;
+        } else {
+            candidates.addAll(SpringConfigFiles.findConfigFiles(GlobalSearchScope.projectScope(project)));
+        }
+
+        VirtualFile target = null;
+        for (VirtualFile file : candidates) {
+            // bootstrap files configure the bootstrap context, not the application
+            if (file.getName().startsWith("bootstrap")) continue;
+            if (target == null) target = file;
+            if (SpringConfigFiles.getProfile(file.getName()) == null) {
+                target = file;
+                break;
             }
         }
-        return null;
+        return new KeyCreationPlan(target, findNewFileDir(project, module), List.copyOf(dotPaths));
     }
 
     /**
-     * Creates (or updates) the application.yaml file so that it contains the dotPath hierarchy.
+     * Where a new application.yaml goes: the module's first resources root, else src/main/resources
+     * under the module (or project) directory.
      */
-    public static void createMissingPathInYaml(Project project, String dotPath) {
+    private static @Nullable String findNewFileDir(Project project, @Nullable Module module) {
+        if (module == null) {
+            String basePath = project.getBasePath();
+            return basePath != null ? basePath + "/src/main/resources" : null;
+        }
+        List<VirtualFile> resourceRoots = ModuleRootManager.getInstance(module).getSourceRoots(JavaResourceRootType.RESOURCE);
+        if (!resourceRoots.isEmpty()) return resourceRoots.get(0).getPath();
 
-        YAMLFile yamlFile = chooseOrCreateApplicationYaml(project);
-        if (yamlFile == null) return;
-        YAMLElementGenerator generator = YAMLElementGenerator.getInstance(project);
+        VirtualFile moduleDir = ProjectUtil.guessModuleDir(module);
+        return moduleDir != null ? moduleDir.getPath() + "/src/main/resources" : null;
+    }
 
-        WriteCommandAction.runWriteCommandAction(project, () -> {
-            YAMLMapping root = PsiTreeUtil.findChildOfType(yamlFile, YAMLMapping.class);
-
-            if (root == null) {
-                // Empty file -> insert full block
-                String text = buildYamlText(Arrays.asList(dotPath.split("\\.")));
-                YAMLFile dummy = generator.createDummyYamlWithText(text);
-                YAMLMapping newMap = PsiTreeUtil.findChildOfType(dummy, YAMLMapping.class);
-                if (newMap != null) {
-                    yamlFile.add(newMap);
-                } else {
-                    // fallback: write text directly to document
-                    PsiDocumentManager documentManager = PsiDocumentManager.getInstance(project);
-                    documentManager.getDocument(yamlFile).setText(text);
-                    documentManager.commitAllDocuments();
-                }
-                return;
-            }
+    /**
+     * Write step, on the EDT: creates the file if the plan has no target, then inserts all paths
+     * as one undoable command with a single document commit.
+     * Paths are merged into a prefix tree first, so every missing subtree is inserted as one generated block.
+     * Returns the created leaf key-values, usable as navigation targets without another lookup.
+     * Paths YAML Buddy cannot create in YAML (list indices, keys below an existing scalar) are left out
+     * and reported in a notification instead of rewriting the file.
+     */
+    public static List<YAMLKeyValue> applyKeyCreation(Project project, @NotNull KeyCreationPlan plan) {
+        PsiFile targetFile = plan.target != null && plan.target.isValid()
+                ? PsiManager.getInstance(project).findFile(plan.target)
+                : null;
+        List<YAMLKeyValue> created = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
 
-            // Root mapping exists – iteratively insert missing levels
-            YAMLMapping current = root;
-            String[] parts = dotPath.split("\\.");
-            for (int i = 0; i < parts.length; i++) {
-                String key = parts[i];
-                YAMLKeyValue existing = current.getKeyValueByKey(key);
-                if (existing == null) {
-                    if (i == parts.length - 1) {
-                        // last level: add a key without value
-                        YAMLKeyValue newKv = generator.createYamlKeyValue(key, "");
-                        current.addBefore(newKv, current.getLastChild());
-                    } else {
-                        // create submap for the remainder
-                        List<String> remaining = new ArrayList<>();
-                        for (int j = i; j < parts.length; j++) remaining.add(parts[j]);
-                        String text = buildYamlText(remaining);
-                        YAMLFile dummy = generator.createDummyYamlWithText(text);
-                        YAMLKeyValue firstKv = PsiTreeUtil.findChildOfType(dummy, YAMLKeyValue.class);
-                        if (firstKv != null) {
-                            current.addBefore(firstKv, current.getLastChild());
-                            // move current to new mapping
-                            YAMLKeyValue justAdded = current.getKeyValueByKey(key);
-                            if (justAdded != null && justAdded.getValue() instanceof YAMLMapping) {
-                                current = (YAMLMapping) justAdded.getValue();
-                                // continue loop from next index
-                                continue;
-                            }
-                        } else {
-                            // fallback: add empty key
-                            YAMLKeyValue newKv = generator.createYamlKeyValue(key, "");
-                            current.addBefore(newKv, current.getLastChild());
-                        }
-                    }
-                } else {
-                    // existing key – go deeper if mapping
-                    YAMLValue val = existing.getValue();
-                    if (val instanceof YAMLMapping) {
-                        current = (YAMLMapping) val;
-                    } else {
-                        // replace value with a map (carefully) – using dummy
-                        String text = buildYamlText(Arrays.asList(parts).subList(i, parts.length));
-                        YAMLFile dummy = generator.createDummyYamlWithText(text);
-                        YAMLKeyValue newKv = PsiTreeUtil.findChildOfType(dummy, YAMLKeyValue.class);
-                        if (newKv != null) {
-                            existing.replace(newKv);
-                            YAMLValue newVal = existing.getValue();
-                            if (newVal instanceof YAMLMapping) current = (YAMLMapping) newVal;
-                        } else {
-                            // nothing
-                            return;
-                        }
-                    }
-                }
+        long start = YamlBuddyMetrics.start();
+        WriteCommandAction.Builder command = targetFile != null
+                ? WriteCommandAction.writeCommandAction(project, targetFile)
+                : WriteCommandAction.writeCommandAction(project);
+        command.withName("Create YAML Keys").run(() -> {
+            if (targetFile != null && plan.isProperties()) {
+                appendProperties(project, targetFile, plan.dotPaths);
+                return;
             }
-            PsiDocumentManager.getInstance(project).commitAllDocuments();
+            skipped.addAll(plan.unsupported);
+            if (plan.tree.isLeaf()) return;
+            YAMLFile target = targetFile instanceof YAMLFile yamlFile ? yamlFile : createApplicationYaml(project, plan.newFileDir);
+            if (target != null) insertTree(project, target, plan.tree, created, skipped);
         });
+        YamlBuddyMetrics.stop(YamlBuddyMetrics.Timer.QUICK_FIX_WRITE, start);
+
+        if (!skipped.isEmpty()) {
+            NotificationGroupManager.getInstance().getNotificationGroup(NOTIFICATION_GROUP)
+                    .createNotification("Some keys were not created",
+                            "Add these keys by hand, YAML Buddy does not create list indices or keys below a scalar value: "
+                                    + String.join(", ", skipped),
+                            NotificationType.WARNING)
+                    .notify(project);
+        }
+        return created;
     }
 
-    private static String buildYamlText(List<String> parts) {
-        StringBuilder sb = new StringBuilder();
-        int indent = 0;
-        for (int i = 0; i < parts.size(); i++) {
-            for (int j = 0; j < indent; j++) sb.append("  ");
-            sb.append(parts.get(i)).append(":\n");
-            indent++;
+    /**
+     * Diff preview of a key creation, computed on a light copy of the target file; the real file is not touched.
+     */
+    public static @NotNull IntentionPreviewInfo previewKeyCreation(Project project,
+                                                                   @Nullable PsiElement context,
+                                                                   Collection<String> dotPaths) {
+        KeyCreationPlan plan = planKeyCreation(project, context, dotPaths);
+        PsiFile original = plan.target != null ? PsiManager.getInstance(project).findFile(plan.target) : null;
+
+        String fileName = original != null ? original.getName() : NEW_FILE_NAME;
+        String originalText = original != null ? original.getText() : "";
+        String baseText = original != null ? originalText : NEW_FILE_HEADER;
+
+        if (original != null && plan.isProperties()) {
+            String newText = originalText + buildPropertiesText(plan.dotPaths, originalText);
+            return new IntentionPreviewInfo.CustomDiff(original.getFileType(), fileName, originalText, newText);
         }
-        return sb.toString();
+
+        YAMLElementGenerator generator = YAMLElementGenerator.getInstance(project);
+        YAMLFile copy = generator.createDummyYamlWithText(baseText);
+        YAMLMapping root = PsiTreeUtil.findChildOfType(copy, YAMLMapping.class);
+
+        String newText;
+        if (root == null) {
+            newText = baseText + buildYamlText(plan.tree, baseText);
+        } else {
+            insertTree(root, plan.tree, "", generator, new ArrayList<>(), new ArrayList<>());
+            newText = copy.getText();
+        }
+        return new IntentionPreviewInfo.CustomDiff(YAMLFileType.YML, fileName, originalText, newText);
     }
 
-    private static YAMLFile chooseOrCreateApplicationYaml(Project project) {
-        List<YAMLFile> existing = findApplicationYamlFiles(project);
-        if (!existing.isEmpty()) return existing.get(0);
+    private static void insertTree(Project project,
+                                   YAMLFile yamlFile,
+                                   KeyNode tree,
+                                   List<YAMLKeyValue> created,
+                                   List<String> skipped) {
+        PsiDocumentManager documentManager = PsiDocumentManager.getInstance(project);
+        Document document = documentManager.getDocument(yamlFile);
+        if (document == null) return;
 
-        String basePath = project.getBasePath();
-        if (basePath == null) return null;
-        String resourcesPath = basePath + "/src/main/resources";
-        try {
-            com.intellij.openapi.vfs.VirtualFile resourcesDir = VfsUtil.createDirectories(resourcesPath);
-            String filePath = resourcesPath + "/application.yaml";
-            LocalFileSystem lfs = LocalFileSystem.getInstance();
-            com.intellij.openapi.vfs.VirtualFile vf = lfs.findFileByPath(filePath);
-            if (vf == null) {
-                vf = resourcesDir.createChildData(YamlPsiUtils.class, "application.yaml");
-                VfsUtil.saveText(vf, "# created by YAML Buddy\n");
+        YAMLMapping root = PsiTreeUtil.findChildOfType(yamlFile, YAMLMapping.class);
+
+        if (root == null) {
+            // Empty file -> append the whole tree as text
+            document.insertString(document.getTextLength(), buildYamlText(tree, document.getCharsSequence()));
+            documentManager.commitDocument(document);
+
+            YAMLMapping newRoot = PsiTreeUtil.findChildOfType(yamlFile, YAMLMapping.class);
+            if (newRoot != null) collectCreated(newRoot, tree, created);
+            return;
+        }
+
+        insertTree(root, tree, "", YAMLElementGenerator.getInstance(project), created, skipped);
+        documentManager.doPostponedOperationsAndUnblockDocument(document);
+        documentManager.commitDocument(document);
+    }
+
+    /**
+     * .properties targets get one "key=" line per path, appended at the end of the file.
+     */
+    private static void appendProperties(Project project, PsiFile file, List<String> dotPaths) {
+        PsiDocumentManager documentManager = PsiDocumentManager.getInstance(project);
+        Document document = documentManager.getDocument(file);
+        if (document == null) return;
+
+        document.insertString(document.getTextLength(), buildPropertiesText(dotPaths, document.getCharsSequence()));
+        documentManager.commitDocument(document);
+    }
+
+    private static String buildPropertiesText(List<String> dotPaths, CharSequence existing) {
+        StringBuilder text = new StringBuilder();
+        if (!existing.isEmpty() && existing.charAt(existing.length() - 1) != '\n') text.append('\n');
+        for (String dotPath : dotPaths) {
+            text.append(dotPath).append("=\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * The whole tree as YAML text, to be appended to a file without a root mapping.
+     */
+    private static String buildYamlText(KeyNode tree, CharSequence existing) {
+        StringBuilder text = new StringBuilder();
+        if (!existing.isEmpty() && existing.charAt(existing.length() - 1) != '\n') text.append('\n');
+        tree.children.forEach((key, node) -> appendYaml(text, key, node, 0, INDENT));
+        return text.toString();
+    }
+
+    private static void insertTree(YAMLMapping mapping,
+                                   KeyNode tree,
+                                   String path,
+                                   YAMLElementGenerator generator,
+                                   List<YAMLKeyValue> created,
+                                   List<String> skipped) {
+        for (Map.Entry<String, KeyNode> entry : tree.children.entrySet()) {
+            String key = entry.getKey();
+            KeyNode node = entry.getValue();
+            YAMLKeyValue existing = mapping.getKeyValueByKey(key);
+
+            if (existing != null && node.isLeaf()) continue;
+
+            if (existing != null && existing.getValue() instanceof YAMLMapping child) {
+                // existing key – go deeper
+                insertTree(child, node, path + key + ".", generator, created, skipped);
+                continue;
             }
-            PsiFile psi = PsiManager.getInstance(project).findFile(vf);
-            if (psi instanceof YAMLFile) return (YAMLFile) psi;
-            return null;
-        } catch (Exception e) {
-            return null;
+
+            if (existing != null && existing.getValue() != null) {
+                // a scalar or a list: turning it into a mapping would drop its value
+                node.collectLeafPaths(path + key, skipped);
+                continue;
+            }
+
+            // missing key, or an empty one ("key:") that becomes a mapping: generate the subtree as one block
+            StringBuilder text = new StringBuilder();
+            appendYaml(text, key, node, 0, YAMLUtil.getIndentToThisElement(mapping) + INDENT);
+            YAMLFile dummy = generator.createDummyYamlWithText(text.toString());
+            YAMLKeyValue block = PsiTreeUtil.findChildOfType(dummy, YAMLKeyValue.class);
+            if (block == null) continue;
+
+            YAMLKeyValue inserted;
+            if (existing != null) {
+                inserted = (YAMLKeyValue) existing.replace(block);
+            } else {
+                mapping.putKeyValue(block);
+                inserted = mapping.getKeyValueByKey(key);
+            }
+            if (inserted != null) collectCreated(inserted, node, created);
         }
     }
-    static boolean yamlKeyExists(YAMLFile file, String dottedKey) {
-        YAMLMapping root = PsiTreeUtil.findChildOfType(file, YAMLMapping.class);
-        if (root == null) return false;
 
-        String[] parts = dottedKey.split("\\.");
-        YAMLMapping current = root;
+    /**
+     * Appends "key:" at lineIndent and its children below it, each level INDENT deeper than childIndent.
+     */
+    private static void appendYaml(StringBuilder sb, String key, KeyNode node, int lineIndent, int childIndent) {
+        sb.append(" ".repeat(lineIndent)).append(key).append(":\n");
+        node.children.forEach((childKey, child) -> appendYaml(sb, childKey, child, childIndent, childIndent + INDENT));
+    }
+
+    private static void collectCreated(YAMLMapping mapping, KeyNode tree, List<YAMLKeyValue> created) {
+        tree.children.forEach((key, node) -> {
+            YAMLKeyValue kv = mapping.getKeyValueByKey(key);
+            if (kv != null) collectCreated(kv, node, created);
+        });
+    }
+
+    private static void collectCreated(YAMLKeyValue kv, KeyNode node, List<YAMLKeyValue> created) {
+        if (node.isLeaf()) {
+            created.add(kv);
+        } else if (kv.getValue() instanceof YAMLMapping child) {
+            collectCreated(child, node, created);
+        }
+    }
 
-        for (int i = 0; i < parts.length; i++) {
-            YAMLKeyValue kv = current.getKeyValueByKey(parts[i]);
-            if (kv == null) return false;
+    /**
+     * Prefix tree of dot-paths; insertion order is kept so keys are created in the order they were requested.
+     * Paths with list indices or map keys in brackets ("servers[0].host", "map[a.b]") or empty segments are
+     * not plain mapping keys: they go to unsupported instead of becoming literal "servers[0]" keys.
+     */
+    private static final class KeyNode {
 
-            if (i == parts.length - 1) {
-                return true;
+        final Map<String, KeyNode> children = new LinkedHashMap<>();
+
+        static KeyNode of(Collection<String> dotPaths, List<String> unsupported) {
+            KeyNode root = new KeyNode();
+            for (String dotPath : dotPaths) {
+                String[] parts = dotPath.split("\\.", -1);
+                if (dotPath.indexOf('[') >= 0 || dotPath.indexOf(']') >= 0 || ArrayUtil.contains("", parts)) {
+                    unsupported.add(dotPath);
+                    continue;
+                }
+                KeyNode current = root;
+                for (String part : parts) {
+                    current = current.children.computeIfAbsent(part, k -> new KeyNode());
+                }
             }
+            return root;
+        }
+
+        boolean isLeaf() {
+            return children.isEmpty();
+        }
 
-            if (!(kv.getValue() instanceof YAMLMapping next)) {
-                return false;
+        void collectLeafPaths(String path, List<String> paths) {
+            if (isLeaf()) {
+                paths.add(path);
+                return;
             }
+            children.forEach((key, child) -> child.collectLeafPaths(path + "." + key, paths));
+        }
+    }
 
-            current = next;
+    /**
+     * Creates application.yaml in resourcesPath; must run in a write action.
+     */
+    private static YAMLFile createApplicationYaml(Project project, @Nullable String resourcesPath) {
+        if (resourcesPath == null) return null;
+        try {
+            VirtualFile resourcesDir = VfsUtil.createDirectories(resourcesPath);
+            VirtualFile vf = LocalFileSystem.getInstance().findFileByPath(resourcesPath + "/" + NEW_FILE_NAME);
+            if (vf == null) {
+                vf = resourcesDir.createChildData(YamlPsiUtils.class, NEW_FILE_NAME);
+                VfsUtil.saveText(vf, NEW_FILE_HEADER);
+            }
+            return PsiManager.getInstance(project).findFile(vf) instanceof YAMLFile yamlFile ? yamlFile : null;
+        } catch (Exception e) {
+            return null;
         }
-        return false;
     }
 }
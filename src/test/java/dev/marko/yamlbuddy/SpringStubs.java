@@ -0,0 +1,49 @@
+package dev.marko.yamlbuddy;
+
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+
+/**
+ * Minimal Spring sources for fixture tests; only the annotations and types the plugin resolves.
+ */
+public final class SpringStubs {
+
+    private SpringStubs() {
+    }
+
+    /**
+     * Adds the Spring stubs under dir ("" for the fixture's source root).
+     */
+    public static void add(CodeInsightTestFixture fixture, String dir) {
+        String root = dir.isEmpty() ? "" : dir + "/";
+        fixture.addFileToProject(root + "org/springframework/beans/factory/annotation/Value.java", """
+                package org.springframework.beans.factory.annotation;
+                public @interface Value { String value(); }
+                """);
+        fixture.addFileToProject(root + "org/springframework/boot/context/properties/ConfigurationProperties.java", """
+                package org.springframework.boot.context.properties;
+                public @interface ConfigurationProperties { String value() default ""; String prefix() default ""; }
+                """);
+        fixture.addFileToProject(root + "org/springframework/boot/autoconfigure/condition/ConditionalOnProperty.java", """
+                package org.springframework.boot.autoconfigure.condition;
+                public @interface ConditionalOnProperty {
+                    String[] value() default {};
+                    String prefix() default "";
+                    String[] name() default {};
+                    String havingValue() default "";
+                    boolean matchIfMissing() default false;
+                }
+                """);
+        fixture.addFileToProject(root + "org/springframework/core/env/PropertyResolver.java", """
+                package org.springframework.core.env;
+                public interface PropertyResolver {
+                    String getProperty(String key);
+                    String getProperty(String key, String defaultValue);
+                    String getRequiredProperty(String key);
+                }
+                """);
+        fixture.addFileToProject(root + "org/springframework/core/env/Environment.java", """
+                package org.springframework.core.env;
+                public interface Environment extends PropertyResolver { }
+                """);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.testFramework.LightVirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import dev.marko.yamlbuddy.index.ConfigKeyEntry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConfigKeyModelTest extends BasePlatformTestCase {
+
+    public void testPrefixMatchesRelaxedSpellings() {
+        ConfigKeyModel model = model("my.some-value", "my.other_value", "my.timeout", "mybatis.enabled");
+
+        assertEquals(List.of("my.some-value"), model.getKeysWithPrefix("my.someV"));
+        assertEquals(List.of("my.some-value"), model.getKeysWithPrefix("my.some_"));
+        assertEquals(List.of("my.other_value"), model.getKeysWithPrefix("MY.OTHERVAL"));
+    }
+
+    public void testTrailingDotOnlyMatchesChildren() {
+        ConfigKeyModel model = model("my.some-value", "my.timeout", "mybatis.enabled");
+
+        assertEquals(List.of("my.some-value", "my.timeout"), model.getKeysWithPrefix("my."));
+        assertEquals(List.of("my.some-value", "my.timeout", "mybatis.enabled"), model.getKeysWithPrefix("my"));
+    }
+
+    private static ConfigKeyModel model(String... keys) {
+        Map<String, ConfigKeyEntry> entries = new HashMap<>();
+        for (String key : keys) {
+            entries.put(RelaxedNames.canonicalize(key), ConfigKeyEntry.of(key, 0, null));
+        }
+        ConfigKeyModel.Builder builder = new ConfigKeyModel.Builder();
+        builder.addFile(new LightVirtualFile("application.yaml"), entries);
+        return builder.build();
+    }
+}
@@ -0,0 +1,105 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import dev.marko.yamlbuddy.SpringStubs;
+import dev.marko.yamlbuddy.config.ConfigurationPropertiesModel.BoundProperty;
+
+import java.util.List;
+
+public class ConfigurationPropertiesModelTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        SpringStubs.add(myFixture, "");
+        myFixture.addFileToProject("org/springframework/validation/annotation/Validated.java", """
+                package org.springframework.validation.annotation;
+                public @interface Validated { }
+                """);
+        myFixture.addFileToProject("jakarta/validation/constraints/NotNull.java", """
+                package jakarta.validation.constraints;
+                public @interface NotNull { }
+                """);
+        myFixture.addFileToProject("org/springframework/boot/context/properties/bind/DefaultValue.java", """
+                package org.springframework.boot.context.properties.bind;
+                public @interface DefaultValue { String[] value() default {}; }
+                """);
+    }
+
+    public void testSetterBindingIsOptionalUnlessValidated() {
+        assertRequired("""
+                @org.springframework.boot.context.properties.ConfigurationProperties("app")
+                class AppProperties {
+                    private String url;
+                    private int port;
+                    private String readOnly;
+                    public void setUrl(String url) { this.url = url; }
+                    public void setPort(int port) { this.port = port; }
+                    public String getReadOnly() { return readOnly; }
+                }
+                """);
+    }
+
+    public void testValidatedNotNullSetterIsRequired() {
+        assertRequired("""
+                import jakarta.validation.constraints.NotNull;
+                @org.springframework.validation.annotation.Validated
+                @org.springframework.boot.context.properties.ConfigurationProperties("app")
+                class AppProperties {
+                    @NotNull private String url;
+                    @NotNull private String noSetter;
+                    @NotNull private String fallback = "x";
+                    private String optional;
+                    public void setUrl(String url) { this.url = url; }
+                    public void setNoSetterFake(String value) { }
+                    public void setFallback(String fallback) { this.fallback = fallback; }
+                    public void setOptional(String optional) { this.optional = optional; }
+                }
+                """, "app.url");
+    }
+
+    public void testConstructorBoundWithoutConstraintIsOptional() {
+        assertRequired("""
+                @org.springframework.boot.context.properties.ConfigurationProperties("app")
+                record AppProperties(String url, int port) { }
+                """);
+    }
+
+    public void testValidatedConstructorBoundNotNullIsRequired() {
+        assertRequired("""
+                import jakarta.validation.constraints.NotNull;
+                import org.springframework.boot.context.properties.bind.DefaultValue;
+                @org.springframework.validation.annotation.Validated
+                @org.springframework.boot.context.properties.ConfigurationProperties("app")
+                record AppProperties(@NotNull String url, @NotNull int port, @NotNull @DefaultValue("5") Integer retries,
+                                     String name) { }
+                """, "app.url");
+    }
+
+    public void testConstructorBindingIgnoresOtherFields() {
+        assertRequired("""
+                import jakarta.validation.constraints.NotNull;
+                @org.springframework.validation.annotation.Validated
+                @org.springframework.boot.context.properties.ConfigurationProperties("app")
+                class AppProperties {
+                    @NotNull private final String url;
+                    @NotNull private String extra;
+                    AppProperties(String url) { this.url = url; }
+                    public void setExtra(String extra) { this.extra = extra; }
+                }
+                """, "app.url");
+    }
+
+    private void assertRequired(String source, String... expectedKeys) {
+        PsiJavaFile file = (PsiJavaFile) myFixture.addFileToProject("AppProperties.java", source);
+        PsiClass psiClass = file.getClasses()[0];
+
+        List<String> required = ConfigurationPropertiesModel.getInstance(psiClass).getProperties().stream()
+                .filter(BoundProperty::required)
+                .map(BoundProperty::key)
+                .toList();
+        assertSameElements(required, expectedKeys);
+    }
+}
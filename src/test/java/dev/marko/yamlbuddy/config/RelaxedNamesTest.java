@@ -0,0 +1,36 @@
+package dev.marko.yamlbuddy.config;
+
+import com.intellij.testFramework.UsefulTestCase;
+
+public class RelaxedNamesTest extends UsefulTestCase {
+
+    public void testSpellingsShareOneCanonicalForm() {
+        for (String key : new String[]{"my.someValue", "my.some-value", "my.some_value", "MY.SOME_VALUE"}) {
+            assertEquals(key, "my.somevalue", RelaxedNames.canonicalize(key));
+        }
+    }
+
+    public void testIndexesAreKeptVerbatim() {
+        assertEquals("list[0].name", RelaxedNames.canonicalize("list[0].name"));
+        assertEquals("map[a.b]", RelaxedNames.canonicalize("map.[a.b]"));
+        assertEquals("map[Key-A].url", RelaxedNames.canonicalize("map[Key-A].URL"));
+    }
+
+    public void testStrayDots() {
+        assertEquals("a.b", RelaxedNames.canonicalize("a..b"));
+        assertEquals("a", RelaxedNames.canonicalize("a."));
+    }
+
+    public void testPrefixKeepsTrailingDot() {
+        assertEquals("app.", RelaxedNames.canonicalizePrefix("App."));
+        assertEquals("my.somev", RelaxedNames.canonicalizePrefix("my.someV"));
+        assertEquals("", RelaxedNames.canonicalizePrefix(""));
+    }
+
+    public void testToKebabCase() {
+        assertEquals("some-value", RelaxedNames.toKebabCase("someValue"));
+        assertEquals("max-pool-size", RelaxedNames.toKebabCase("maxPoolSize"));
+        assertEquals("some-value", RelaxedNames.toKebabCase("some_value"));
+        assertEquals("already-kebab", RelaxedNames.toKebabCase("already-kebab"));
+    }
+}
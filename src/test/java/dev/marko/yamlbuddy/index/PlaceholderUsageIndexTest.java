@@ -0,0 +1,68 @@
+package dev.marko.yamlbuddy.index;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+public class PlaceholderUsageIndexTest extends LightJavaCodeInsightFixtureTestCase {
+
+    public void testConditionalOnPropertyJoinsPrefixWithEachName() {
+        PsiFile file = myFixture.addFileToProject("Feature.java", """
+                @ConditionalOnProperty(prefix = "app.feature", name = {"enabled", "mode"}, havingValue = "on")
+                class Feature {
+                }
+                """);
+
+        assertUsedBy("app.feature.enabled", file);
+        assertUsedBy("app.feature.mode", file);
+        assertEmpty(PlaceholderUsageIndex.getFilesUsing("on", GlobalSearchScope.projectScope(getProject())));
+        assertEmpty(PlaceholderUsageIndex.getFilesUsing("app.feature", GlobalSearchScope.projectScope(getProject())));
+    }
+
+    public void testConditionalOnPropertyValueArray() {
+        PsiFile file = myFixture.addFileToProject("Switch.java", """
+                @ConditionalOnProperty({"app.first", "app.second"})
+                class Switch {
+                }
+                """);
+
+        assertUsedBy("app.first", file);
+        assertUsedBy("app.second", file);
+    }
+
+    public void testKeysInCommentsAreNotUses() {
+        PsiFile file = myFixture.addFileToProject("Client.java", """
+                /**
+                 * Reads {@code ${app.documented}}, see env.getProperty("app.javadoc").
+                 */
+                class Client {
+                    // String old = env.getProperty("app.commented");
+                    String url = "http://host/${app.url}"; /* ${app.block} */
+                }
+                """);
+
+        assertUsedBy("app.url", file);
+        assertFalse(PlaceholderUsageIndex.isUsed(getProject(), "app.documented"));
+        assertFalse(PlaceholderUsageIndex.isUsed(getProject(), "app.javadoc"));
+        assertFalse(PlaceholderUsageIndex.isUsed(getProject(), "app.commented"));
+        assertFalse(PlaceholderUsageIndex.isUsed(getProject(), "app.block"));
+    }
+
+    public void testMaskCommentsKeepsStringsAndOffsets() {
+        String text = "String a = \"http://x\"; // ${b}\n/* ${c}\n */ char d = '/';";
+        String masked = PlaceholderUsageIndex.maskComments(text).toString();
+
+        assertEquals(text.length(), masked.length());
+        assertTrue(masked.startsWith("String a = \"http://x\";"));
+        assertFalse(masked.contains("${b}"));
+        assertFalse(masked.contains("${c}"));
+        assertTrue(masked.endsWith("char d = '/';"));
+        assertEquals(2, StringUtil.countNewLines(masked));
+    }
+
+    private void assertUsedBy(String key, PsiFile file) {
+        assertContainsElements(PlaceholderUsageIndex.getFilesUsing(key, GlobalSearchScope.projectScope(getProject())),
+                file.getVirtualFile());
+    }
+}
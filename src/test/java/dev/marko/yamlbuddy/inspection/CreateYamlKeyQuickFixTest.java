@@ -0,0 +1,77 @@
+package dev.marko.yamlbuddy.inspection;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.application.impl.NonBlockingReadActionImpl;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import dev.marko.yamlbuddy.SpringStubs;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CreateYamlKeyQuickFixTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private final List<Notification> notifications = new ArrayList<>();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        SpringStubs.add(myFixture, "");
+        myFixture.enableInspections(new MissingYamlKeyInspection());
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(Notifications.TOPIC, new Notifications() {
+            @Override
+            public void notify(@NotNull Notification notification) {
+                notifications.add(notification);
+            }
+        });
+    }
+
+    public void testCreatesNestedKey() {
+        myFixture.addFileToProject("application.yaml", "app:\n  name: demo\n");
+        configureService("app.timeout");
+
+        launch("Create key 'app.timeout' in the application config");
+
+        myFixture.checkResult("application.yaml", "app:\n  name: demo\n  timeout:\n", true);
+        assertEmpty(notifications);
+    }
+
+    public void testKeepsScalarAndReportsKeyBelowIt() {
+        myFixture.addFileToProject("application.yaml", "app: 1\n");
+        configureService("app.timeout");
+
+        launch("Create key 'app.timeout' in the application config");
+
+        myFixture.checkResult("application.yaml", "app: 1\n", true);
+        assertSize(1, notifications);
+        assertTrue(notifications.get(0).getContent().contains("app.timeout"));
+    }
+
+    public void testReportsListIndexInsteadOfCreatingBracketKey() {
+        myFixture.addFileToProject("application.yaml", "servers:\n  - host: a\n");
+        configureService("servers[1].host");
+
+        launch("Create key 'servers[1].host' in the application config");
+
+        myFixture.checkResult("application.yaml", "servers:\n  - host: a\n", true);
+        assertSize(1, notifications);
+        assertTrue(notifications.get(0).getContent().contains("servers[1].host"));
+    }
+
+    private void configureService(String key) {
+        myFixture.configureByText("Service.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                class Service {
+                    @Value("${%s}") String value;
+                }
+                """.formatted(key));
+    }
+
+    private void launch(String fixName) {
+        myFixture.launchAction(myFixture.findSingleIntention(fixName));
+        NonBlockingReadActionImpl.waitForAsyncTaskCompletion();
+        PlatformTestUtil.dispatchAllEventsInIdeEventQueue();
+    }
+}
@@ -0,0 +1,111 @@
+package dev.marko.yamlbuddy.reference;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import dev.marko.yamlbuddy.SpringStubs;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+public class YamlKeyRenameTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        SpringStubs.add(myFixture, "");
+    }
+
+    public void testRenameUpdatesKeyLiterals() {
+        PsiFile yaml = myFixture.addFileToProject("application.yaml", "app:\n  url: http://localhost\n");
+        myFixture.addFileToProject("Client.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+                import org.springframework.core.env.Environment;
+
+                @ConditionalOnProperty(prefix = "app", name = "url")
+                class Client {
+                    @Value("${app.url}") String url;
+
+                    String url(Environment env) {
+                        return env.getProperty("app.url");
+                    }
+                }
+                """);
+
+        YAMLKeyValue url = findKey(yaml, "url");
+        myFixture.renameElement(url, "uri");
+
+        myFixture.checkResult("Client.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+                import org.springframework.core.env.Environment;
+
+                @ConditionalOnProperty(prefix = "app", name = "uri")
+                class Client {
+                    @Value("${app.uri}") String url;
+
+                    String url(Environment env) {
+                        return env.getProperty("app.uri");
+                    }
+                }
+                """, true);
+    }
+
+    public void testRenameParentKeyRewritesMiddleSegment() {
+        PsiFile yaml = myFixture.addFileToProject("application.yaml", "app:\n  timeout: 30\n");
+        myFixture.addFileToProject("Client.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.core.env.Environment;
+
+                class Client {
+                    @Value("${app.timeout:10}") int timeout;
+
+                    String timeout(Environment env) {
+                        return env.getProperty("app.timeout");
+                    }
+                }
+                """);
+
+        myFixture.renameElement(findKey(yaml, "app"), "service");
+
+        myFixture.checkResult("Client.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.core.env.Environment;
+
+                class Client {
+                    @Value("${service.timeout:10}") int timeout;
+
+                    String timeout(Environment env) {
+                        return env.getProperty("service.timeout");
+                    }
+                }
+                """, true);
+    }
+
+    public void testRenameUpdatesKotlinPlaceholderAndPrefix() {
+        PsiFile yaml = myFixture.addFileToProject("application.yaml", "app:\n  url: http://localhost\n");
+        myFixture.addFileToProject("Client.kt", """
+                import org.springframework.beans.factory.annotation.Value
+                import org.springframework.boot.context.properties.ConfigurationProperties
+
+                @ConfigurationProperties("app")
+                class Client(@Value("\\${app.url}") val url: String)
+                """);
+
+        myFixture.renameElement(findKey(yaml, "app"), "service");
+
+        myFixture.checkResult("Client.kt", """
+                import org.springframework.beans.factory.annotation.Value
+                import org.springframework.boot.context.properties.ConfigurationProperties
+
+                @ConfigurationProperties("service")
+                class Client(@Value("\\${service.url}") val url: String)
+                """, true);
+    }
+
+    private static YAMLKeyValue findKey(PsiFile yaml, String name) {
+        for (YAMLKeyValue keyValue : PsiTreeUtil.findChildrenOfType(yaml, YAMLKeyValue.class)) {
+            if (name.equals(keyValue.getKeyText())) return keyValue;
+        }
+        throw new AssertionError("no key " + name);
+    }
+}
@@ -0,0 +1,79 @@
+package dev.marko.yamlbuddy.scan;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import dev.marko.yamlbuddy.SpringStubs;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+public class MissingKeysCheckStarterTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        SpringStubs.add(myFixture, "");
+        myFixture.addFileToProject("application.yaml", "app:\n  timeout: 30\n");
+    }
+
+    public void testSarifReportsMissingKey() throws IOException {
+        myFixture.addFileToProject("Service.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                class Service {
+                    @Value("${app.timeout}") int timeout;
+                    @Value("${app.retries}") int retries;
+                }
+                """);
+
+        StringWriter out = new StringWriter();
+        assertEquals(MissingKeysCheckStarter.EXIT_MISSING_KEYS,
+                MissingKeysCheckStarter.check(getProject(), MissingKeysReport.Format.SARIF, out));
+
+        JsonObject sarif = JsonParser.parseString(out.toString()).getAsJsonObject();
+        assertEquals("2.1.0", sarif.get("version").getAsString());
+        assertEquals("https://json.schemastore.org/sarif-2.1.0.json", sarif.get("$schema").getAsString());
+
+        JsonObject run = sarif.getAsJsonArray("runs").get(0).getAsJsonObject();
+        JsonObject driver = run.getAsJsonObject("tool").getAsJsonObject("driver");
+        assertEquals("YAML Buddy", driver.get("name").getAsString());
+        assertEquals("YamlBuddyMissingKey", driver.getAsJsonArray("rules").get(0).getAsJsonObject().get("id").getAsString());
+
+        JsonArray results = run.getAsJsonArray("results");
+        assertEquals(1, results.size());
+        JsonObject result = results.get(0).getAsJsonObject();
+        assertEquals("YamlBuddyMissingKey", result.get("ruleId").getAsString());
+        assertEquals("error", result.get("level").getAsString());
+        assertEquals("YAML key 'app.retries' not found", result.getAsJsonObject("message").get("text").getAsString());
+
+        JsonObject location = result.getAsJsonArray("locations").get(0).getAsJsonObject().getAsJsonObject("physicalLocation");
+        assertTrue(location.getAsJsonObject("artifactLocation").get("uri").getAsString().endsWith("Service.java"));
+        assertEquals("%SRCROOT%", location.getAsJsonObject("artifactLocation").get("uriBaseId").getAsString());
+        assertEquals(4, location.getAsJsonObject("region").get("startLine").getAsInt());
+        assertEquals(13, location.getAsJsonObject("region").get("startColumn").getAsInt());
+    }
+
+    public void testCleanProjectExitsWithZero() throws IOException {
+        myFixture.addFileToProject("Service.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                class Service {
+                    @Value("${app.timeout}") int timeout;
+                }
+                """);
+
+        StringWriter out = new StringWriter();
+        assertEquals(MissingKeysCheckStarter.EXIT_OK,
+                MissingKeysCheckStarter.check(getProject(), MissingKeysReport.Format.JSON, out));
+        assertEquals(0, JsonParser.parseString(out.toString()).getAsJsonArray().size());
+    }
+
+    public void testInvalidArgumentsExitWithTwo() throws IOException {
+        assertEquals(MissingKeysCheckStarter.EXIT_ERROR, MissingKeysCheckStarter.run(List.of("yamlBuddyCheck")));
+        assertEquals(MissingKeysCheckStarter.EXIT_ERROR,
+                MissingKeysCheckStarter.run(List.of("yamlBuddyCheck", "does-not-exist")));
+        assertEquals(MissingKeysCheckStarter.EXIT_ERROR,
+                MissingKeysCheckStarter.run(List.of("yamlBuddyCheck", "--format=xml", ".")));
+    }
+}
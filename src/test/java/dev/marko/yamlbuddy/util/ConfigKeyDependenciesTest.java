@@ -0,0 +1,117 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.application.impl.NonBlockingReadActionImpl;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.UsefulTestCase;
+import com.intellij.testFramework.builders.JavaModuleFixtureBuilder;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+import com.intellij.testFramework.fixtures.JavaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import dev.marko.yamlbuddy.SpringStubs;
+import dev.marko.yamlbuddy.inspection.MissingYamlKeyInspection;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Two modules that both define app.timeout: removing it from module A must re-highlight A's Java file,
+ * although the project-wide key set does not change, whether the file is edited in the editor or on disk.
+ */
+public class ConfigKeyDependenciesTest extends UsefulTestCase {
+
+    private JavaCodeInsightTestFixture myFixture;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        TestFixtureBuilder<IdeaProjectTestFixture> projectBuilder =
+                IdeaTestFixtureFactory.getFixtureFactory().createFixtureBuilder(getName());
+        myFixture = JavaTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(projectBuilder.getFixture());
+
+        for (String module : new String[]{"a", "b"}) {
+            assertTrue(new File(myFixture.getTempDirPath(), module).mkdirs());
+        }
+        projectBuilder.addModule(JavaModuleFixtureBuilder.class).addSourceContentRoot(myFixture.getTempDirPath() + "/a");
+        projectBuilder.addModule(JavaModuleFixtureBuilder.class).addSourceContentRoot(myFixture.getTempDirPath() + "/b");
+        myFixture.setUp();
+        myFixture.enableInspections(new MissingYamlKeyInspection());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            myFixture.tearDown();
+        } catch (Throwable e) {
+            addSuppressedException(e);
+        } finally {
+            myFixture = null;
+            super.tearDown();
+        }
+    }
+
+    public void testEditInOneModuleRehighlightsItsFiles() {
+        PsiFile yamlA = configureTwoModules();
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            Document document = PsiDocumentManager.getInstance(getProject()).getDocument(yamlA);
+            document.setText("app:\n  retries: 5\n");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+        NonBlockingReadActionImpl.waitForAsyncTaskCompletion();
+        PlatformTestUtil.dispatchAllEventsInIdeEventQueue();
+
+        assertNotEmpty(missingKeyWarnings());
+    }
+
+    public void testChangeOnDiskRehighlightsItsFiles() throws IOException {
+        PsiFile yamlA = configureTwoModules();
+
+        VirtualFile file = yamlA.getVirtualFile();
+        WriteAction.runAndWait(() -> VfsUtil.saveText(file, "app:\n  retries: 5\n"));
+        NonBlockingReadActionImpl.waitForAsyncTaskCompletion();
+        PlatformTestUtil.dispatchAllEventsInIdeEventQueue();
+
+        assertNotEmpty(missingKeyWarnings());
+    }
+
+    /**
+     * Both modules define app.timeout and module A's service uses it; returns module A's config file.
+     */
+    private PsiFile configureTwoModules() {
+        SpringStubs.add(myFixture, "a");
+        PsiFile yamlA = myFixture.addFileToProject("a/application.yaml", "app:\n  timeout: 5\n");
+        myFixture.addFileToProject("b/application.yaml", "app:\n  timeout: 5\n");
+        PsiFile service = myFixture.addFileToProject("a/Service.java", """
+                import org.springframework.beans.factory.annotation.Value;
+                class Service {
+                    @Value("${app.timeout}") String timeout;
+                }
+                """);
+
+        myFixture.configureFromExistingVirtualFile(service.getVirtualFile());
+        assertEmpty(missingKeyWarnings());
+        return yamlA;
+    }
+
+    private List<HighlightInfo> missingKeyWarnings() {
+        return myFixture.doHighlighting().stream()
+                .filter(info -> info.getDescription() != null && info.getDescription().contains("'app.timeout'"))
+                .toList();
+    }
+
+    private Project getProject() {
+        return myFixture.getProject();
+    }
+}
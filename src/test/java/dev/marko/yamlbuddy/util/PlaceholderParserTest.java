@@ -0,0 +1,50 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.testFramework.UsefulTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PlaceholderParserTest extends UsefulTestCase {
+
+    public void testKeysAndDefaults() {
+        assertEquals(List.of("0:server.port"), parse("${server.port}"));
+        assertEquals(List.of("0:app.url| http://localhost "), parse("${ app.url : http://localhost }"));
+        assertEquals(List.of("0:app.host", "0:app.port"), parse("${app.host}:${app.port}/api"));
+    }
+
+    public void testNestedPlaceholders() {
+        assertEquals(List.of("0:app.timeout|${default.timeout:30s}", "1:default.timeout|30s"),
+                parse("${app.timeout:${default.timeout:30s}}"));
+        assertEquals(List.of("0:${env}.url", "1:env"), parse("${${env}.url}"));
+    }
+
+    public void testUnterminated() {
+        assertEmpty(parse("${app.url"));
+        assertEquals(List.of("0:a"), parse("${a} ${b"));
+    }
+
+    public void testOffsets() {
+        List<List<Integer>> ranges = new ArrayList<>();
+        PlaceholderParser.parse("x${ a }y", (start, end, keyStart, keyEnd, defaultStart, defaultEnd, depth) ->
+                ranges.add(List.of(start, end, keyStart, keyEnd, defaultStart)));
+        assertEquals(List.of(List.of(1, 7, 4, 5, PlaceholderParser.NO_DEFAULT)), ranges);
+    }
+
+    public void testMayContainPlaceholder() {
+        assertTrue(PlaceholderParser.mayContainPlaceholder("\"${a}\""));
+        assertFalse(PlaceholderParser.mayContainPlaceholder("$ {a}"));
+        assertFalse(PlaceholderParser.mayContainPlaceholder("{a}$"));
+        assertFalse(PlaceholderParser.mayContainPlaceholder("x${a}", 2, 5));
+    }
+
+    private static List<String> parse(String text) {
+        List<String> result = new ArrayList<>();
+        PlaceholderParser.parse(text, (start, end, keyStart, keyEnd, defaultStart, defaultEnd, depth) -> {
+            String key = text.substring(keyStart, keyEnd);
+            String value = defaultStart == PlaceholderParser.NO_DEFAULT ? "" : "|" + text.substring(defaultStart, defaultEnd);
+            result.add(depth + ":" + key + value);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.testFramework.UsefulTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PropertiesKeyParserTest extends UsefulTestCase {
+
+    public void testSeparatorsAndComments() {
+        assertEquals(List.of("a@0=1", "b@24=2", "c@30=3", "d@34=one two", "e@49="), keys("""
+                a=1
+                # comment
+                ! other
+                  b : 2
+                c 3
+                d=one \\
+                   two
+                e=
+                """));
+    }
+
+    public void testEscapes() {
+        assertEquals(List.of("a:b@0=1", "tab@7=x\ty"), keys("a\\:b=1\ntab=x\\ty\n"));
+    }
+
+    public void testWindowsLineEndings() {
+        assertEquals(List.of("a@0=1", "b@5=2"), keys("a=1\r\nb=2\r\n"));
+    }
+
+    public void testLastLineWithoutNewline() {
+        assertEquals(List.of("server.port@0=8080"), keys("server.port=8080"));
+    }
+
+    private static List<String> keys(String text) {
+        List<String> keys = new ArrayList<>();
+        PropertiesKeyParser.collectKeys(text, (key, offset, value) -> keys.add(key + "@" + offset + "=" + value));
+        return keys;
+    }
+}
@@ -0,0 +1,128 @@
+package dev.marko.yamlbuddy.util;
+
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.yaml.YAMLLanguage;
+import org.jetbrains.yaml.psi.YAMLFile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The streaming reader must report the same paths and offsets as the PSI walk, and give up
+ * (return false) on the constructs it leaves to PSI.
+ */
+public class YamlKeyExtractorTest extends BasePlatformTestCase {
+
+    public void testNestedMappingsMatchPsi() {
+        assertSameAsPsi("""
+                server:
+                  port: 8080
+                  ssl:
+                    enabled: true
+                # comment
+                app.name: demo
+                """);
+    }
+
+    public void testSequencesMatchPsi() {
+        assertSameAsPsi("""
+                app:
+                  hosts:
+                    - a.example.com
+                    - b.example.com
+                  servers:
+                    - name: one
+                      port: 1
+                    - name: two
+                """);
+    }
+
+    public void testDocumentsMatchPsi() {
+        assertSameAsPsi("""
+                a: 1
+                ---
+                b: 2
+                """);
+    }
+
+    public void testMultiLineScalarsKeepFollowingKeys() {
+        assertSameAsPsi("""
+                plain: first
+                  second
+                literal: |
+                  line1
+                  line2
+                folded: >
+                  one
+                  two
+                last: 1
+                """);
+    }
+
+    public void testValues() {
+        Map<String, String> values = new HashMap<>();
+        assertTrue(YamlKeyExtractor.collectKeys("""
+                plain: some value
+                single: 'it''s'
+                double: "quoted"
+                literal: |
+                  line1
+                  line2
+                folded: >
+                  one
+                  two
+                empty:
+                """, (key, offset, value) -> values.put(key, value)));
+
+        assertEquals("some value", values.get("plain"));
+        assertEquals("it's", values.get("single"));
+        assertEquals("quoted", values.get("double"));
+        assertEquals("line1\nline2", values.get("literal"));
+        assertEquals("one two", values.get("folded"));
+        assertTrue(values.containsKey("empty"));
+        assertNull(values.get("empty"));
+    }
+
+    public void testFlowCollectionsFallBack() {
+        assertFalse(collect("app: {name: demo}\n", new ArrayList<>()));
+        assertFalse(collect("app:\n  hosts: [a, b]\n", new ArrayList<>()));
+    }
+
+    public void testComplexKeyFallsBack() {
+        assertFalse(collect("? complex\n: value\n", new ArrayList<>()));
+    }
+
+    public void testTopLevelSequenceFallsBack() {
+        assertFalse(collect("- a\n- b\n", new ArrayList<>()));
+    }
+
+    public void testQuotedKeysMatchPsiOrFallBack() {
+        String yaml = """
+                "app.name": demo
+                'other': 1
+                """;
+        List<String> keys = new ArrayList<>();
+        if (collect(yaml, keys)) assertEquals(psiKeys(yaml), keys);
+    }
+
+    private void assertSameAsPsi(String yaml) {
+        List<String> keys = new ArrayList<>();
+        assertTrue(collect(yaml, keys));
+        assertEquals(psiKeys(yaml), keys);
+    }
+
+    private static boolean collect(String yaml, List<String> keys) {
+        return YamlKeyExtractor.collectKeys(yaml, (key, offset, value) -> keys.add(key + "@" + offset));
+    }
+
+    private List<String> psiKeys(String yaml) {
+        YAMLFile file = (YAMLFile) PsiFileFactory.getInstance(getProject())
+                .createFileFromText("application.yaml", YAMLLanguage.INSTANCE, yaml);
+        List<String> keys = new ArrayList<>();
+        YamlPsiUtils.collectKeys(file, (key, element) -> keys.add(key + "@" + element.getTextRange().getStartOffset()));
+        return keys;
+    }
+}